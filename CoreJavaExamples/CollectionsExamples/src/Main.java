@@ -2,6 +2,8 @@
 // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
 
 import com.collections.DSAProblemSolving;
+import com.collections.ProblemRegistry;
+import com.collections.ProblemRunner;
 
 public class Main {
 	public static void main(String[] args) throws Exception {
@@ -255,6 +257,11 @@ public class Main {
 		 * 
 		 */
 
+		// Run problems by id, e.g. "7.3,B.1 --input data.txt --repeat 5" (see --list)
+		if (args.length > 0) {
+			System.exit(new ProblemRunner(ProblemRegistry.defaults()).run(args));
+		}
+
 		// Calling for LinkedList Problems
 //		LinkedListProblemsSolution start2 = new LinkedListProblemsSolution();
 //		start2.run();
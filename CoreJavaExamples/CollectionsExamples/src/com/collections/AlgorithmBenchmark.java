@@ -0,0 +1,337 @@
+package com.collections;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+/**
+ * Benchmarks every documented solution variant in {@link DSAProblemSolving}
+ * across input sizes and value distributions, and writes the results as CSV
+ * or JSON.
+ *
+ * Structured like a JMH run: each (variant, distribution, size) cell is warmed
+ * up, then measured for a minimum number of iterations and a minimum time.
+ * The input is copied from a pristine array before every iteration, outside
+ * the timed region, so in-place variants always see the same data. Results are
+ * folded into a sink so the JIT cannot drop the work.
+ *
+ * <pre>
+ * java com.collections.AlgorithmBenchmark [--max-size n] [--families a,b]
+ *     [--format csv|json] [--out file]
+ * </pre>
+ *
+ * Sizes run from 10^3 up to --max-size (default 10^7) in powers of ten. For
+ * 10^8 use --max-size 100000000 and a heap of at least 4 GB. Quadratic
+ * variants stop at 10^5.
+ *
+ * The variants of a family must return the same value on the same input,
+ * and the run stops if they do not. The majority variants assume a majority
+ * exists, so that family only runs on SKEWED, the one distribution that has
+ * one.
+ */
+public class AlgorithmBenchmark {
+
+	private static final int QUADRATIC_LIMIT = 100_000;
+	private static final int MIN_ITERATIONS = 5;
+	private static final long MIN_MEASURE_NANOS = 300_000_000L;
+	private static final long WARMUP_NANOS = 100_000_000L;
+	private static final int MAX_ITERATIONS = 1_000;
+
+	private static long sink;
+
+	enum Distribution {
+		RANDOM, SORTED, REVERSED, SKEWED
+	}
+
+	private static final class Variant {
+		final String family;
+		final String name;
+		final int maxSize;
+		final int valueRange; // values drawn from [0, valueRange), or +-valueRange when signed
+		final boolean signed;
+		final EnumSet<Distribution> distributions;
+		final ToLongFunction<int[]> body;
+
+		Variant(String family, String name, int maxSize, int valueRange, boolean signed, ToLongFunction<int[]> body) {
+			this(family, name, maxSize, valueRange, signed, EnumSet.allOf(Distribution.class), body);
+		}
+
+		Variant(String family, String name, int maxSize, int valueRange, boolean signed,
+				EnumSet<Distribution> distributions, ToLongFunction<int[]> body) {
+			this.family = family;
+			this.name = name;
+			this.maxSize = maxSize;
+			this.valueRange = valueRange;
+			this.signed = signed;
+			this.distributions = distributions;
+			this.body = body;
+		}
+	}
+
+	private static final class Result {
+		final Variant variant;
+		final Distribution distribution;
+		final int size;
+		final String status;
+		final int iterations;
+		final long avgNanos;
+		final long minNanos;
+		final long value; // what the variant returned
+
+		Result(Variant variant, Distribution distribution, int size, String status, int iterations, long avgNanos,
+				long minNanos, long value) {
+			this.variant = variant;
+			this.distribution = distribution;
+			this.size = size;
+			this.status = status;
+			this.iterations = iterations;
+			this.avgNanos = avgNanos;
+			this.minNanos = minNanos;
+			this.value = value;
+		}
+	}
+
+	static List<Variant> variants() {
+		List<Variant> variants = new ArrayList<>();
+		int all = Integer.MAX_VALUE;
+
+		// only inputs with a majority: elsewhere the variants answer differently
+		EnumSet<Distribution> skewed = EnumSet.of(Distribution.SKEWED);
+		variants.add(new Variant("majority", "sort", all, 1_000, false, skewed, DSAProblemSolving::majorityBySort));
+		variants.add(new Variant("majority", "hashmap", all, 1_000, false, skewed, DSAProblemSolving::majorityByHashMap));
+		variants.add(new Variant("majority", "int-hashmap", all, 1_000, false, skewed,
+				DSAProblemSolving::majorityByIntMap));
+		variants.add(new Variant("majority", "boyer-moore", all, 1_000, false, skewed,
+				DSAProblemSolving::majorityBoyerMoore));
+		variants.add(new Variant("majority", "parallel", all, 1_000, false, skewed,
+				DSAProblemSolving::majorityParallel));
+
+		variants.add(new Variant("maxsubarray", "quadratic", QUADRATIC_LIMIT, 1_000, true,
+				DSAProblemSolving::maxSubarrayQuadratic));
+		variants.add(new Variant("maxsubarray", "kadane", all, 1_000, true, DSAProblemSolving::maxSubarrayKadane));
+		variants.add(new Variant("maxsubarray", "parallel", all, 1_000, true, DSAProblemSolving::maxSubarrayParallel));
+
+		variants.add(new Variant("leaders", "quadratic", QUADRATIC_LIMIT, 1_000_000, true,
+				a -> DSAProblemSolving.leadersQuadratic(a).length));
+		variants.add(new Variant("leaders", "reverse-scan", all, 1_000_000, true,
+				a -> DSAProblemSolving.leadersReverseScan(a).length));
+
+		// k = 0 over signed values gives plenty of matching subarrays
+		variants.add(new Variant("subarraysum", "quadratic", QUADRATIC_LIMIT, 1_000, true,
+				a -> DSAProblemSolving.countSubarraysQuadratic(a, 0)));
+		variants.add(new Variant("subarraysum", "prefix-sum", all, 1_000, true,
+				a -> DSAProblemSolving.countSubarraysPrefixSum(a, 0)));
+
+		// non-negative values, so the two-pointer variant is valid too
+		variants.add(new Variant("longestsum", "quadratic", QUADRATIC_LIMIT, 100, false,
+				a -> DSAProblemSolving.longestSubarrayQuadratic(a, 5_000)));
+		variants.add(new Variant("longestsum", "two-pointer", all, 100, false,
+				a -> DSAProblemSolving.longestSubarrayTwoPointer(a, 5_000)));
+		variants.add(new Variant("longestsum", "prefix-sum", all, 100, false,
+				a -> DSAProblemSolving.longestSubarrayPrefixSum(a, 5_000)));
+		variants.add(new Variant("longestsum", "parallel", all, 100, false,
+				a -> LongestSubarraySum.parallelLongest(a, 5_000).length()));
+
+		variants.add(new Variant("consecutive", "sort", all, 20_000_000, false,
+				DSAProblemSolving::longestConsecutiveBySort));
+		variants.add(new Variant("consecutive", "hash-set", all, 20_000_000, false,
+				DSAProblemSolving::longestConsecutiveHashSet));
+		variants.add(new Variant("consecutive", "parallel", all, 20_000_000, false,
+				DSAProblemSolving::longestConsecutiveParallel));
+
+		variants.add(new Variant("sort012", "counting", all, 3, false, a -> {
+			DSAProblemSolving.sortZeroOneTwoCounting(a);
+			return a[a.length / 2];
+		}));
+		variants.add(new Variant("sort012", "dutch-flag", all, 3, false, a -> {
+			DSAProblemSolving.sortZeroOneTwoDutchFlag(a);
+			return a[a.length / 2];
+		}));
+		return variants;
+	}
+
+	/**
+	 * Generates {@code n} values. SKEWED puts 60% of the mass on one hot value,
+	 * which also gives the majority problem a real majority.
+	 */
+	static int[] generate(Distribution distribution, int n, int valueRange, boolean signed, long seed) {
+		Random random = new Random(seed);
+		int[] data = new int[n];
+		for (int i = 0; i < n; i++) {
+			int value = random.nextInt(valueRange);
+			data[i] = signed ? value - valueRange / 2 : value;
+		}
+		switch (distribution) {
+		case SORTED:
+			Arrays.sort(data);
+			break;
+		case REVERSED:
+			Arrays.sort(data);
+			for (int i = 0, j = n - 1; i < j; i++, j--) {
+				int temp = data[i];
+				data[i] = data[j];
+				data[j] = temp;
+			}
+			break;
+		case SKEWED:
+			int hot = data.length > 0 ? data[0] : 0;
+			for (int i = 0; i < n; i++) {
+				if (random.nextInt(10) < 6) {
+					data[i] = hot;
+				}
+			}
+			break;
+		default:
+			break;
+		}
+		return data;
+	}
+
+	private static Result measure(Variant variant, Distribution distribution, int[] pristine) {
+		int[] work = new int[pristine.length];
+		try {
+			long warmupEnd = System.nanoTime() + WARMUP_NANOS;
+			int warmups = 0;
+			while (warmups < 2 || (System.nanoTime() < warmupEnd && warmups < MAX_ITERATIONS)) {
+				System.arraycopy(pristine, 0, work, 0, pristine.length);
+				sink += variant.body.applyAsLong(work);
+				warmups++;
+			}
+
+			long total = 0;
+			long min = Long.MAX_VALUE;
+			long value = 0;
+			int iterations = 0;
+			while (iterations < MIN_ITERATIONS || (total < MIN_MEASURE_NANOS && iterations < MAX_ITERATIONS)) {
+				System.arraycopy(pristine, 0, work, 0, pristine.length);
+				long start = System.nanoTime();
+				value = variant.body.applyAsLong(work);
+				long elapsed = System.nanoTime() - start;
+				sink += value;
+				total += elapsed;
+				min = Math.min(min, elapsed);
+				iterations++;
+			}
+			return new Result(variant, distribution, pristine.length, "ok", iterations, total / iterations, min, value);
+		} catch (OutOfMemoryError e) {
+			return new Result(variant, distribution, pristine.length, "oom", 0, 0, 0, 0);
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		int maxSize = 10_000_000;
+		String format = "csv";
+		String outFile = null;
+		List<String> families = null;
+
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "--max-size":
+				maxSize = Integer.parseInt(args[++i]);
+				break;
+			case "--format":
+				format = args[++i];
+				break;
+			case "--out":
+				outFile = args[++i];
+				break;
+			case "--families":
+				families = Arrays.asList(args[++i].split(","));
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown option: " + args[i]);
+			}
+		}
+		if (!format.equals("csv") && !format.equals("json")) {
+			throw new IllegalArgumentException("--format must be csv or json");
+		}
+
+		List<Variant> variants = new ArrayList<>();
+		for (Variant variant : variants()) {
+			if (families == null || families.contains(variant.family)) {
+				variants.add(variant);
+			}
+		}
+
+		List<Result> results = new ArrayList<>();
+		for (long size = 1_000; size <= maxSize; size *= 10) {
+			int n = (int) size;
+			for (Distribution distribution : Distribution.values()) {
+				String family = null;
+				int[] pristine = null;
+				Result reference = null; // first result of the family, which the others must match
+				for (Variant variant : variants) {
+					if (n > variant.maxSize || !variant.distributions.contains(distribution)) {
+						continue;
+					}
+					if (!variant.family.equals(family)) {
+						family = variant.family;
+						reference = null;
+						pristine = null; // let the previous input go before allocating the next
+						pristine = generate(distribution, n, variant.valueRange, variant.signed, 42);
+					}
+					Result result = measure(variant, distribution, pristine);
+					if (result.status.equals("ok")) {
+						if (reference == null) {
+							reference = result;
+						} else if (result.value != reference.value) {
+							throw new IllegalStateException("Variants disagree on " + family + " " + distribution + " "
+									+ n + ": " + reference.variant.name + " returned " + reference.value + ", "
+									+ variant.name + " returned " + result.value);
+						}
+					}
+					results.add(result);
+					System.err.printf(Locale.ROOT, "%-12s %-13s %-9s %,12d  %12.1f ns/op  %s%n", variant.family,
+							variant.name, distribution, n, (double) result.avgNanos, result.status);
+				}
+			}
+		}
+
+		PrintStream out = outFile == null ? System.out : new PrintStream(Files.newOutputStream(Paths.get(outFile)));
+		try {
+			if (format.equals("csv")) {
+				writeCsv(results, out);
+			} else {
+				writeJson(results, out);
+			}
+		} finally {
+			out.flush();
+			if (outFile != null) {
+				out.close();
+			}
+		}
+		System.err.println("sink " + sink);
+	}
+
+	private static void writeCsv(List<Result> results, PrintStream out) {
+		out.println("family,variant,distribution,size,status,iterations,avg_ns,min_ns,ns_per_element");
+		for (Result r : results) {
+			out.printf(Locale.ROOT, "%s,%s,%s,%d,%s,%d,%d,%d,%.4f%n", r.variant.family, r.variant.name,
+					r.distribution.name().toLowerCase(Locale.ROOT), r.size, r.status, r.iterations, r.avgNanos,
+					r.minNanos, (double) r.avgNanos / r.size);
+		}
+	}
+
+	private static void writeJson(List<Result> results, PrintStream out) {
+		out.println("[");
+		for (int i = 0; i < results.size(); i++) {
+			Result r = results.get(i);
+			out.printf(Locale.ROOT,
+					"  {\"family\": \"%s\", \"variant\": \"%s\", \"distribution\": \"%s\", \"size\": %d, "
+							+ "\"status\": \"%s\", \"iterations\": %d, \"avgNs\": %d, \"minNs\": %d, "
+							+ "\"nsPerElement\": %.4f}%s%n",
+					r.variant.family, r.variant.name, r.distribution.name().toLowerCase(Locale.ROOT), r.size, r.status,
+					r.iterations, r.avgNanos, r.minNanos, (double) r.avgNanos / r.size,
+					i + 1 < results.size() ? "," : "");
+		}
+		out.println("]");
+	}
+}
@@ -1,9 +1,14 @@
 package com.collections;
 
+import java.util.ArrayList;
+import java.util.Collections;
+
 public class ArrayListProblemsSolution {
 
 	public void run() {
 
+		FastWriter out = new FastWriter(System.out);
+
 		// Topic 1: ArrayList Creation & Initialization
 
 		/* Simple List Creation (Basic) */
@@ -499,7 +504,7 @@ public class ArrayListProblemsSolution {
 		 * Search in Rotated Array (Advanced) class Problem6_3 { public static void
 		 * main(String[] args) { Scanner sc = new Scanner(System.in);
 		 * 
-		 * Check and resolve problem with Binary Search
+		 * Resolved with Binary Search: see SearchRotated / RotatedSortedSearch
 		 * 
 		 * 
 		 */
@@ -1151,6 +1156,502 @@ public class ArrayListProblemsSolution {
 //		}
 //		
 
+		out.flush();
+	}
+
+	/*
+	 * =========================================================================
+	 * Problems ported to the Problem interface, runnable from Main by id. Int
+	 * lists are IntArrayList, so nothing is boxed.
+	 * =========================================================================
+	 */
+
+	/*
+	 * Multiple ArrayLists Creation, the third problem of section 1. Input is N,
+	 * then N lists each given as its length D and D values, then Q queries X Y;
+	 * each prints the Y-th value of the X-th list (both 1-based) or ERROR! if
+	 * there is none.
+	 */
+	public static class MultipleLists extends ListQueries {
+		@Override
+		void readLists(FastReader sc, int n) {
+			for (int i = 0; i < n; i++) {
+				lists.readRow(sc, sc.nextInt());
+			}
+		}
+	}
+
+	/**
+	 * Shared by the problems that read N int lists and then answer Q queries X
+	 * Y with the Y-th value of the X-th list (both 1-based), or ERROR! if there
+	 * is none. Subclasses only read the lists, whose format differs. The lists
+	 * live in one JaggedIntLists, so a query is one bounds check and one array
+	 * read, and a miss is a -1, not a caught exception.
+	 */
+	abstract static class ListQueries implements Problem {
+		JaggedIntLists lists;
+		private int[] xs;
+		private int[] ys;
+		private int[] answers;
+		private boolean[] found;
+
+		/**
+		 * Reads the {@code n} lists into {@link #lists}, one row each.
+		 */
+		abstract void readLists(FastReader sc, int n);
+
+		@Override
+		public void parse(FastReader sc) {
+			int n = sc.nextInt();
+			lists = new JaggedIntLists(n, 16);
+			readLists(sc, n);
+			int q = sc.nextInt();
+			xs = new int[q];
+			ys = new int[q];
+			for (int i = 0; i < q; i++) {
+				xs[i] = sc.nextInt();
+				ys[i] = sc.nextInt();
+			}
+		}
+
+		@Override
+		public void solve() {
+			answers = new int[xs.length];
+			found = new boolean[xs.length];
+			int[] values = lists.values();
+			for (int i = 0; i < xs.length; i++) {
+				int cell = lists.cellIndex(xs[i] - 1, ys[i] - 1);
+				found[i] = cell >= 0;
+				answers[i] = found[i] ? values[cell] : 0;
+			}
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			for (int i = 0; i < answers.length; i++) {
+				if (found[i]) {
+					out.println(answers[i]);
+				} else {
+					out.println("ERROR!");
+				}
+			}
+		}
+	}
+
+	/* Problem 2.3: Insert and Delete Queries (Advanced) */
+	public static class InsertDeleteQueries implements Problem {
+		private IntArrayList list;
+		private int[] operations;
+		private int[] indexes;
+		private int[] values;
+
+		@Override
+		public void parse(FastReader sc) {
+			list = sc.nextIntList(sc.nextInt());
+
+			int q = sc.nextInt();
+			operations = new int[q];
+			indexes = new int[q];
+			values = new int[q];
+			byte[] word = new byte[16];
+			for (int i = 0; i < q; i++) {
+				int length = sc.nextWord(word);
+				if (FastReader.wordEquals(word, length, "Insert")) {
+					operations[i] = 1;
+					indexes[i] = sc.nextInt();
+					values[i] = sc.nextInt();
+				} else if (FastReader.wordEquals(word, length, "Delete")) {
+					operations[i] = 2;
+					indexes[i] = sc.nextInt();
+				}
+			}
+		}
+
+		@Override
+		public void solve() {
+			for (int i = 0; i < operations.length; i++) {
+				if (operations[i] == 1) {
+					list.add(indexes[i], values[i]);
+				} else if (operations[i] == 2) {
+					list.remove(indexes[i]);
+				}
+			}
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.printAll(list.elements(), 0, list.size()).println();
+		}
+	}
+
+	/*
+	 * Problem 3.3: Nested ArrayList Query (Advanced). Input is N, then N lists
+	 * each ended by -1, then Q queries X Y; each prints the Y-th value of the
+	 * X-th list (both 1-based) or ERROR! if there is none.
+	 */
+	public static class NestedListQuery extends ListQueries {
+		@Override
+		void readLists(FastReader sc, int n) {
+			for (int i = 0; i < n; i++) {
+				lists.addRow();
+				int element;
+				while ((element = sc.nextInt()) != -1) {
+					lists.add(element);
+				}
+			}
+		}
+	}
+
+	/* Problem 4.2: Transform Elements (Medium) */
+	public static class TransformElements implements Problem {
+		private IntArrayList nums;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntList(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			for (int i = 0; i < nums.size(); i++) {
+				int value = nums.get(i);
+				if (value % 2 == 0) {
+					nums.set(i, 2 * value);
+				} else {
+					nums.set(i, value + 1);
+				}
+			}
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.printAll(nums.elements(), 0, nums.size()).println();
+		}
+	}
+
+	/*
+	 * Problem 5.2: Remove All Occurrences (Medium). Input is N, N integers and X;
+	 * prints the count removed, then the remaining list or "Empty".
+	 */
+	public static class RemoveAllOccurrences implements Problem {
+		private IntArrayList nums;
+		private int value;
+		private int count;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntList(sc.nextInt());
+			value = sc.nextInt();
+		}
+
+		@Override
+		public void solve() {
+			count = nums.removeIf(num -> num == value);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.println(count);
+			if (nums.isEmpty()) {
+				out.println("Empty");
+			} else {
+				out.printAll(nums.elements(), 0, nums.size()).println();
+			}
+		}
+	}
+
+	/*
+	 * Problem 6.1: Element Exists (Basic). The list is indexed once in a hash
+	 * set, so each query is O(1) instead of a scan.
+	 * Time Complexity: O(N + Q) Space Complexity: O(N)
+	 */
+	public static class ElementExists implements Problem {
+		private IntArrayList nums;
+		private int[] queries;
+		private boolean[] found;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntList(sc.nextInt());
+			queries = sc.nextIntArray(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			found = new IntMembershipIndex(nums).containsAll(queries);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			for (boolean exists : found) {
+				out.println(exists ? "Yes" : "No");
+			}
+		}
+	}
+
+	/*
+	 * Problem 6.2: First and Last Position (Medium). Answered by lower and upper
+	 * bound over a sorted (value, position) index instead of two scans.
+	 * Time Complexity: O(n log n) to build, O(log n) per query Space Complexity: O(n)
+	 */
+	public static class FirstLastPosition implements Problem {
+		private IntArrayList nums;
+		private int target;
+		private int firstElement;
+		private int lastElement;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntList(sc.nextInt());
+			target = sc.nextInt();
+		}
+
+		@Override
+		public void solve() {
+			IntPositionIndex index = new IntPositionIndex(nums);
+			firstElement = index.firstIndexOf(target);
+			lastElement = index.lastIndexOf(target);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.print(firstElement).print(' ').println(lastElement);
+		}
+	}
+
+	/*
+	 * Problem 6.3: Search in Rotated Array (Advanced). Reads the rotated sorted
+	 * list, then Q targets, and prints the index of each target or -1. The pivot
+	 * is found once, then every target is a binary search.
+	 * Time Complexity: O(log N) per query (O(N) pivot search with many duplicates)
+	 * Space Complexity: O(N)
+	 */
+	public static class SearchRotated implements Problem {
+		private IntArrayList nums;
+		private int[] targets;
+		private int[] positions;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntList(sc.nextInt());
+			targets = sc.nextIntArray(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			positions = new RotatedSortedSearch(nums).indexOfAll(targets);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			for (int position : positions) {
+				out.println(position);
+			}
+		}
+	}
+
+	/* Problem 7.1: Basic Sort (Basic) */
+	public static class BasicSort implements Problem {
+		private IntArrayList nums;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntList(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			nums.sort();
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			int[] sorted = nums.elements();
+			out.printAll(sorted, 0, nums.size()).println();
+			for (int i = nums.size() - 1; i >= 0; i--) {
+				out.print(sorted[i]).print(' ');
+			}
+			out.println();
+		}
+	}
+
+	/*
+	 * Problem 7.3: Multi-criteria Sorting (Advanced). Age ascending, then salary
+	 * descending, then name ascending.
+	 */
+	public static class MultiCriteriaSort implements Problem {
+		private ArrayList<Employee> employee;
+
+		@Override
+		public void parse(FastReader sc) {
+			int n = sc.nextInt();
+			employee = new ArrayList<>(n);
+			for (int i = 0; i < n; i++) {
+				String name = sc.next();
+				int age = sc.nextInt();
+				int salary = sc.nextInt();
+				employee.add(new Employee(name, age, salary));
+			}
+		}
+
+		@Override
+		public void solve() {
+			Collections.sort(employee, (e1, e2) -> {
+				if (e1.age != e2.age) {
+					return Integer.compare(e1.age, e2.age); // ascending
+				}
+				if (e1.salary != e2.salary) {
+					return Integer.compare(e2.salary, e1.salary); // descending
+				}
+				return e1.name.compareTo(e2.name); // ascending
+			});
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			for (Employee e : employee) {
+				out.print(e.name).print(' ').print(e.age).print(' ').println(e.salary);
+			}
+		}
+	}
+
+	/*
+	 * Problem 8.1: SubList Operations (Basic). Each query X Y prints the sublist
+	 * from position X to Y, 1-based and inclusive, as the original solution did.
+	 */
+	public static class SubListOperations implements Problem {
+		private IntArrayList nums;
+		private int[] queries;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntList(sc.nextInt());
+			queries = sc.nextIntArray(2 * sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			// nothing to precompute; each view is cut while printing
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			for (int i = 0; i < queries.length; i += 2) {
+				IntArrayList.SubList view = nums.subList(queries[i] - 1, queries[i + 1]);
+				out.print('[');
+				for (int j = 0; j < view.size(); j++) {
+					if (j > 0) {
+						out.print(", ");
+					}
+					out.print(view.get(j));
+				}
+				out.println(']');
+			}
+		}
+	}
+
+	/* Problem B.1: Merge Two Sorted Lists */
+	public static class MergeSortedLists implements Problem {
+		private IntArrayList list1;
+		private IntArrayList list2;
+		private IntArrayList merged;
+
+		@Override
+		public void parse(FastReader sc) {
+			list1 = sc.nextIntList(sc.nextInt());
+			list2 = sc.nextIntList(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			int n = list1.size();
+			int m = list2.size();
+			int[] a = list1.elements();
+			int[] b = list2.elements();
+			merged = new IntArrayList(n + m);
+			int i = 0, j = 0;
+			while (i < n && j < m) {
+				if (a[i] <= b[j]) {
+					merged.add(a[i++]);
+				} else {
+					merged.add(b[j++]);
+				}
+			}
+			merged.addAll(a, i, n);
+			merged.addAll(b, j, m);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.printAll(merged.elements(), 0, merged.size()).println();
+		}
+	}
+
+	/*
+	 * Problem B.2: Remove Duplicates and Sort. Input is N, N integers and K;
+	 * prints the sorted unique elements, then the K-th smallest of them.
+	 */
+	public static class RemoveDuplicatesSort implements Problem {
+		private IntArrayList list1;
+		private int k;
+		private IntArrayList unique;
+
+		@Override
+		public void parse(FastReader sc) {
+			list1 = sc.nextIntList(sc.nextInt());
+			k = sc.nextInt();
+		}
+
+		@Override
+		public void solve() {
+			list1.sort();
+			// after sorting, duplicates are neighbours
+			unique = new IntArrayList(list1.size());
+			for (int i = 0; i < list1.size(); i++) {
+				int value = list1.get(i);
+				if (i == 0 || value != list1.get(i - 1)) {
+					unique.add(value);
+				}
+			}
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.printAll(unique.elements(), 0, unique.size()).println();
+			if (k >= 1 && k <= unique.size()) {
+				out.println(unique.get(k - 1));
+			} else {
+				out.println("ERROR!");
+			}
+		}
+	}
+
+	/*
+	 * Problem B.3: Sliding Window Maximum. Input is N, N integers and the window
+	 * size K; prints the maximum of each window on one line. A monotonic deque
+	 * replaces the rescan of every window (which also hardcoded K = 3).
+	 * Time Complexity: O(N) Space Complexity: O(K)
+	 */
+	public static class SlidingWindowMaximum implements Problem {
+		private int[] nums;
+		private int k;
+		private int[] maxima;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntArray(sc.nextInt());
+			k = sc.nextInt();
+		}
+
+		@Override
+		public void solve() {
+			maxima = SlidingWindowExtremum.windowMax(nums, k);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.printAll(maxima, 0, maxima.length).println();
+		}
 	}
 
 }
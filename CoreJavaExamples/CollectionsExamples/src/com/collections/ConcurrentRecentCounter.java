@@ -0,0 +1,136 @@
+package com.collections;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe request counter over a sliding time window, for many threads
+ * pinging at once.
+ *
+ * {@link RecentCounter} needs timestamps in order, which concurrent callers
+ * cannot guarantee, and a lock around it serializes every ping. Here time is
+ * cut into buckets of one unit: bucket {@code t % (window + 1)} counts the
+ * pings at time t. Each slot packs the bucket's lap ({@code t / (window + 1)})
+ * with its count, so a ping is one CAS that either increments the count or,
+ * when the slot still holds an older lap, restarts it at 1. A ping older than
+ * the lap in its slot is outside every window the slot can still contribute
+ * to, and is dropped.
+ *
+ * Pings are spread over several stripes of buckets by thread, like
+ * {@link java.util.concurrent.atomic.LongAdder}, so threads rarely CAS the
+ * same slot. {@link #count(long)} sums the buckets of every stripe whose time
+ * lies in [now - window, now], in O(stripes * window). It is exact for the
+ * pings that completed before it started; pings racing with it may or may not
+ * be included.
+ *
+ * Timestamps are non-negative longs in the window's unit, below
+ * 2^44 * (window + 1), which covers epoch milliseconds for any window. A
+ * stripe holds at most 2^20 - 1 pings per time unit.
+ */
+public class ConcurrentRecentCounter {
+
+	private static final int COUNT_BITS = 20;
+	private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+	private static final long MAX_LAP = (1L << (64 - COUNT_BITS)) - 1;
+	private static final int MAX_BUCKETS = 1 << 24;
+
+	private final long window;
+	private final int buckets;
+	private final int stripeMask;
+	private final AtomicLongArray slots; // stripe-major: stripe * buckets + bucket
+
+	public ConcurrentRecentCounter() {
+		this(RecentCounter.DEFAULT_WINDOW);
+	}
+
+	public ConcurrentRecentCounter(long window) {
+		this(window, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * @param window  width of the window in time units
+	 * @param stripes expected number of concurrent writers; rounded up to a
+	 *                power of two
+	 */
+	public ConcurrentRecentCounter(long window, int stripes) {
+		if (window < 0 || window >= MAX_BUCKETS) {
+			throw new IllegalArgumentException("Window must be between 0 and " + (MAX_BUCKETS - 1) + ": " + window);
+		}
+		if (stripes < 1 || stripes > 1 << 10) {
+			throw new IllegalArgumentException("Stripes must be between 1 and 1024: " + stripes);
+		}
+		this.window = window;
+		this.buckets = (int) window + 1;
+		int stripeCount = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+		if ((long) stripeCount * buckets > 1 << 28) {
+			throw new IllegalArgumentException("Window " + window + " with " + stripeCount + " stripes is too large");
+		}
+		this.stripeMask = stripeCount - 1;
+		this.slots = new AtomicLongArray(stripeCount * buckets);
+	}
+
+	/**
+	 * Records a request at {@code time}.
+	 *
+	 * @throws IllegalArgumentException if {@code time} is negative or too large
+	 *                                  to pack
+	 */
+	public void ping(long time) {
+		if (time < 0) {
+			throw new IllegalArgumentException("Time must not be negative: " + time);
+		}
+		long lap = time / buckets;
+		if (lap > MAX_LAP) {
+			throw new IllegalArgumentException("Time out of range: " + time);
+		}
+		int index = stripe() * buckets + (int) (time - lap * buckets);
+		while (true) {
+			long current = slots.get(index);
+			long currentLap = current >>> COUNT_BITS;
+			long next;
+			if (currentLap == lap) {
+				if ((current & COUNT_MASK) == COUNT_MASK) {
+					throw new IllegalStateException("Too many pings at time " + time);
+				}
+				next = current + 1;
+			} else if (currentLap < lap) {
+				next = lap << COUNT_BITS | 1;
+			} else {
+				return; // the slot already belongs to a later lap
+			}
+			if (slots.compareAndSet(index, current, next)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Number of requests in [now - window, now].
+	 */
+	public long count(long now) {
+		long oldest = now - window;
+		long total = 0;
+		for (int base = 0; base < slots.length(); base += buckets) {
+			for (int bucket = 0; bucket < buckets; bucket++) {
+				long slot = slots.get(base + bucket);
+				long time = (slot >>> COUNT_BITS) * buckets + bucket;
+				if (time >= oldest && time <= now) {
+					total += slot & COUNT_MASK;
+				}
+			}
+		}
+		return total;
+	}
+
+	public long window() {
+		return window;
+	}
+
+	/**
+	 * Picks a stripe from the calling thread's identity hash, so a thread keeps
+	 * hitting the same stripe.
+	 */
+	private int stripe() {
+		int h = System.identityHashCode(Thread.currentThread()) * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & stripeMask;
+	}
+}
@@ -0,0 +1,75 @@
+package com.collections;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A run of consecutive int values first, first + 1, ..., last, as returned by
+ * {@link LongestConsecutiveSequence}. The length is a long because a run can
+ * cover the whole int range.
+ */
+public final class ConsecutiveRun {
+
+	static final ConsecutiveRun EMPTY = new ConsecutiveRun(0, 0);
+
+	private final int first;
+	private final long length;
+
+	ConsecutiveRun(int first, long length) {
+		this.first = first;
+		this.length = length;
+	}
+
+	public long length() {
+		return length;
+	}
+
+	public boolean isEmpty() {
+		return length == 0;
+	}
+
+	/**
+	 * Smallest value of the run.
+	 *
+	 * @throws NoSuchElementException if the run is empty
+	 */
+	public int first() {
+		if (length == 0) {
+			throw new NoSuchElementException("Empty run");
+		}
+		return first;
+	}
+
+	/**
+	 * Largest value of the run.
+	 *
+	 * @throws NoSuchElementException if the run is empty
+	 */
+	public int last() {
+		if (length == 0) {
+			throw new NoSuchElementException("Empty run");
+		}
+		return (int) (first + length - 1);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ConsecutiveRun)) {
+			return false;
+		}
+		ConsecutiveRun other = (ConsecutiveRun) o;
+		return first == other.first && length == other.length;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * first + Long.hashCode(length);
+	}
+
+	@Override
+	public String toString() {
+		return length == 0 ? "ConsecutiveRun []" : "ConsecutiveRun [first=" + first + ", last=" + last() + "]";
+	}
+}
@@ -2,12 +2,14 @@ package com.collections;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Scanner;
+import java.util.HashMap;
 
 public class DSAProblemSolving {
 
 	public void run() {
 
+		FastWriter out = new FastWriter(System.out);
+
 		// System.out.println("Learning codeing Problems");
 
 		/* find maximum element in array */
@@ -802,7 +804,8 @@ public class DSAProblemSolving {
 		/**
 		 * 
 		 * 
-		 * Time Complexity : Space Complexity :
+		 * Time Complexity: O(N*M) Space Complexity: O(1), walking the legs of the
+		 * spiral with SpiralCursor (Problem dsa.spiral)
 		 * 
 		 * 
 		 */
@@ -829,37 +832,596 @@ public class DSAProblemSolving {
 		 * Explanation: The subarrays that sum up to 3 are [1, 2], and [3].
 		 */
 
-		Scanner sc = new Scanner(System.in);
-		ArrayList<Integer> nums = new ArrayList<Integer>(Arrays.asList(1, 2, 7, 5, 5, 10, 5, 3, 2, 7, 1));
+		FastReader sc = new FastReader(System.in);
+		int[] nums = { 1, 2, 7, 5, 5, 10, 5, 3, 2, 7, 1 };
 		int findValue = sc.nextInt();
-		int n = nums.size();
-
-		int finalCount = 0;
-		int i = 0;
-		int j = 0;
-		int sum = 0;
-		while (j < n) {
-			sum += nums.get(j);
-			System.out.println("For j is :" + j + " " + sum);
-			if (sum == findValue) {
-				finalCount++;
-
-				if (nums.get(j + 1) + nums.get(j) < findValue && j != n - 1) {
-					sum = nums.get(j);
-					j++;
-				} else {
 
-					sum = 0;
-					j++;
+		// prefix sums: a[i..j] sums to K when prefix(j + 1) - K == prefix(i)
+		long finalCount = SubarraySumCounter.count(nums, findValue);
+
+		out.println("final Count is:" + finalCount);
+		out.flush();
+
+	}
+
+	/*
+	 * =========================================================================
+	 * The documented solution variants as reusable methods over int[], so they
+	 * can be benchmarked against each other (see AlgorithmBenchmark). The
+	 * majority variants assume a majority exists, as the problem statement does.
+	 * =========================================================================
+	 */
+
+	/* Majority by sorting: the middle element. Time: O(n log n) Space: O(1) */
+	public static int majorityBySort(int[] nums) {
+		Arrays.sort(nums);
+		return nums[nums.length / 2];
+	}
+
+	/* Majority by counting in a HashMap. Time: O(n) Space: O(n) */
+	public static int majorityByHashMap(int[] nums) {
+		int n = nums.length;
+		HashMap<Integer, Integer> map = new HashMap<>();
+		for (int num : nums) {
+			int count = map.getOrDefault(num, 0) + 1;
+			map.put(num, count);
+			if (count > n / 2) {
+				return num;
+			}
+		}
+		return -1;
+	}
+
+	/*
+	 * Majority by counting in an IntIntHashMap: same algorithm as the HashMap
+	 * variant without boxing keys and counts. Time: O(n) Space: O(n)
+	 */
+	public static int majorityByIntMap(int[] nums) {
+		int n = nums.length;
+		IntIntHashMap map = new IntIntHashMap();
+		for (int num : nums) {
+			if (map.increment(num) > n / 2) {
+				return num;
+			}
+		}
+		return -1;
+	}
+
+	/* Majority by Boyer-Moore voting. Time: O(n) Space: O(1) */
+	public static int majorityBoyerMoore(int[] nums) {
+		int candidate = 0;
+		int votes = 0;
+		for (int num : nums) {
+			if (votes == 0) {
+				candidate = num;
+				votes = 1;
+			} else if (num == candidate) {
+				votes++;
+			} else {
+				votes--;
+			}
+		}
+		return candidate;
+	}
+
+	/*
+	 * Majority by Boyer-Moore voting on parallel chunks, merged and verified by
+	 * an exact count. Returns -1 if there is none. Time: O(n) Space: O(chunks)
+	 */
+	public static int majorityParallel(int[] nums) {
+		return HeavyHitters.majority(nums).orElse(-1);
+	}
+
+	/* Max subarray sum trying every start with two loops. Time: O(n^2) Space: O(1) */
+	public static long maxSubarrayQuadratic(int[] arr) {
+		long max = Long.MIN_VALUE;
+		for (int i = 0; i < arr.length; i++) {
+			long sum = 0;
+			for (int j = i; j < arr.length; j++) {
+				sum += arr[j];
+				if (sum > max) {
+					max = sum;
+				}
+			}
+		}
+		return max;
+	}
+
+	/* Max subarray sum with Kadane's algorithm. Time: O(n) Space: O(1) */
+	public static long maxSubarrayKadane(int[] nums) {
+		long maxSoFar = nums[0];
+		long maxEndingHere = nums[0];
+		for (int i = 1; i < nums.length; i++) {
+			maxEndingHere = Math.max(nums[i], maxEndingHere + nums[i]);
+			maxSoFar = Math.max(maxSoFar, maxEndingHere);
+		}
+		return maxSoFar;
+	}
+
+	/* Max subarray sum from fork-join segment summaries. Time: O(n) Space: O(log n) */
+	public static long maxSubarrayParallel(int[] nums) {
+		return MaxSubarraySum.parallelMax(nums).sum();
+	}
+
+	/* Leaders by checking everything to the right of each element. Time: O(n^2) */
+	public static int[] leadersQuadratic(int[] arr) {
+		int n = arr.length;
+		int[] ans = new int[n];
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			boolean leader = true;
+			for (int j = i + 1; j < n; j++) {
+				if (arr[j] >= arr[i]) {
+					leader = false;
+					break;
 				}
+			}
+			if (leader) {
+				ans[count++] = arr[i];
+			}
+		}
+		return Arrays.copyOf(ans, count);
+	}
 
+	/* Leaders by one scan from the right, in left to right order. Time: O(n) */
+	public static int[] leadersReverseScan(int[] arr) {
+		int n = arr.length;
+		if (n == 0) {
+			return new int[0];
+		}
+		int[] ans = new int[n];
+		int count = 0;
+		int max = arr[n - 1];
+		ans[n - 1 - count++] = max;
+		for (int i = n - 2; i >= 0; i--) {
+			if (arr[i] > max) {
+				max = arr[i];
+				ans[n - 1 - count++] = max;
+			}
+		}
+		return Arrays.copyOfRange(ans, n - count, n);
+	}
+
+	/* Sort 0s, 1s and 2s by counting then overwriting. Time: O(n), two passes */
+	public static void sortZeroOneTwoCounting(int[] nums) {
+		int zeros = 0;
+		int ones = 0;
+		for (int num : nums) {
+			if (num == 0) {
+				zeros++;
+			} else if (num == 1) {
+				ones++;
+			}
+		}
+		Arrays.fill(nums, 0, zeros, 0);
+		Arrays.fill(nums, zeros, zeros + ones, 1);
+		Arrays.fill(nums, zeros + ones, nums.length, 2);
+	}
+
+	/* Sort 0s, 1s and 2s with the Dutch National Flag. Time: O(n), one pass */
+	public static void sortZeroOneTwoDutchFlag(int[] nums) {
+		int low = 0;
+		int mid = 0;
+		int high = nums.length - 1;
+		while (mid <= high) {
+			if (nums[mid] == 0) {
+				int temp = nums[low];
+				nums[low++] = nums[mid];
+				nums[mid++] = temp;
+			} else if (nums[mid] == 2) {
+				int temp = nums[high];
+				nums[high--] = nums[mid];
+				nums[mid] = temp;
 			} else {
-				j++;
+				mid++;
+			}
+		}
+	}
+
+	/* Count subarrays summing to k by trying every start. Time: O(n^2) Space: O(1) */
+	public static long countSubarraysQuadratic(int[] nums, long k) {
+		long count = 0;
+		for (int i = 0; i < nums.length; i++) {
+			long sum = 0;
+			for (int j = i; j < nums.length; j++) {
+				sum += nums[j];
+				if (sum == k) {
+					count++;
+				}
 			}
+		}
+		return count;
+	}
+
+	/* Count subarrays summing to k with a prefix sum hash map. Time: O(n) Space: O(n) */
+	public static long countSubarraysPrefixSum(int[] nums, long k) {
+		return SubarraySumCounter.count(nums, k);
+	}
 
+	/* Longest subarray summing to k by trying every start. Time: O(n^2) Space: O(1) */
+	public static int longestSubarrayQuadratic(int[] a, long k) {
+		int maxLen = 0;
+		for (int i = 0; i < a.length; i++) {
+			long sum = 0;
+			for (int j = i; j < a.length; j++) {
+				sum += a[j];
+				if (sum == k) {
+					maxLen = Math.max(maxLen, j - i + 1);
+				}
+			}
 		}
+		return maxLen;
+	}
 
-		System.out.println("final Count is:" + finalCount);
+	/*
+	 * Longest subarray summing to k with two pointers. Only correct when no
+	 * element is negative. Time: O(n) Space: O(1)
+	 */
+	public static int longestSubarrayTwoPointer(int[] a, long k) {
+		int left = 0;
+		long sum = 0;
+		int maxLen = 0;
+		for (int right = 0; right < a.length; right++) {
+			sum += a[right];
+			// if sum > k, reduce the subarray from left until sum <= k
+			while (left <= right && sum > k) {
+				sum -= a[left++];
+			}
+			if (sum == k) {
+				maxLen = Math.max(maxLen, right - left + 1);
+			}
+		}
+		return maxLen;
+	}
+
+	/* Longest subarray summing to k with first-occurrence prefix sums, any signs. Time: O(n) */
+	public static int longestSubarrayPrefixSum(int[] a, long k) {
+		return LongestSubarraySum.longest(a, k).length();
+	}
+
+	/*
+	 * Longest run of consecutive values by sorting, then counting steps of one
+	 * and skipping duplicates. Time: O(n log n) Space: O(1)
+	 */
+	public static long longestConsecutiveBySort(int[] nums) {
+		if (nums.length == 0) {
+			return 0;
+		}
+		Arrays.sort(nums);
+		long longest = 1;
+		long current = 1;
+		for (int i = 1; i < nums.length; i++) {
+			if (nums[i] == nums[i - 1]) {
+				continue;
+			}
+			current = (long) nums[i] - nums[i - 1] == 1 ? current + 1 : 1;
+			longest = Math.max(longest, current);
+		}
+		return longest;
+	}
+
+	/* Longest run of consecutive values counted from run heads in an IntHashSet. Time: O(n) */
+	public static long longestConsecutiveHashSet(int[] nums) {
+		return LongestConsecutiveSequence.longest(nums).length();
+	}
+
+	/* Longest run of consecutive values with a parallel union-find. Time: O(n) */
+	public static long longestConsecutiveParallel(int[] nums) {
+		return LongestConsecutiveSequence.parallelLongest(nums).length();
+	}
+
+	/*
+	 * =========================================================================
+	 * Problems ported to the Problem interface, runnable from Main by id. Input
+	 * for each is N followed by N integers.
+	 * =========================================================================
+	 */
+
+	/* find maximum element in array. Time Complexity: O(n) */
+	public static class LargestElement implements Problem {
+		private IntArrayList numbers;
+		private int maxElement;
+
+		@Override
+		public void parse(FastReader sc) {
+			numbers = sc.nextIntList(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			maxElement = Integer.MIN_VALUE;
+			for (int i = 0; i < numbers.size(); i++) {
+				if (numbers.get(i) > maxElement) {
+					maxElement = numbers.get(i);
+				}
+			}
+		}
 
+		@Override
+		public void print(FastWriter out) {
+			out.println(maxElement);
+		}
+	}
+
+	/*
+	 * Sort an array of 0s, 1s and 2s with the Dutch National Flag algorithm.
+	 * Time Complexity:O(n) Space Complexity:O(1)
+	 */
+	public static class SortZeroOneTwo implements Problem {
+		private IntArrayList nums;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntList(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			int low = 0;
+			int mid = 0;
+			int high = nums.size() - 1;
+			while (mid <= high) {
+				if (nums.get(mid) == 0) {
+					nums.swap(low, mid);
+					low++;
+					mid++;
+				} else if (nums.get(mid) == 2) {
+					nums.swap(mid, high);
+					high--;
+				} else {
+					mid++;
+				}
+			}
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.printAll(nums.elements(), 0, nums.size()).println();
+		}
+	}
+
+	/*
+	 * Element occurring more than N/2 times, by Boyer-Moore voting over parallel
+	 * chunks and an exact counting pass. Prints -1 if there is none.
+	 * Time Complexity: 0(n) Space Complexity :0(1)
+	 */
+	public static class MajorityElement implements Problem {
+		private int[] nums;
+		private int majority;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntArray(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			majority = majorityParallel(nums);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.println(majority);
+		}
+	}
+
+	/*
+	 * Every element occurring more than N/K times, with the Misra-Gries summary.
+	 * Input is N, N integers, then K; prints them in ascending order, or -1 if
+	 * there are none. Time Complexity: O(n) Space Complexity: O(k)
+	 */
+	public static class HeavyHitterElements implements Problem {
+		private int[] nums;
+		private int k;
+		private int[] frequent;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntArray(sc.nextInt());
+			k = sc.nextInt();
+		}
+
+		@Override
+		public void solve() {
+			frequent = HeavyHitters.heavyHitters(nums, k);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			if (frequent.length == 0) {
+				out.println(-1);
+			} else {
+				out.printAll(frequent, 0, frequent.length).println();
+			}
+		}
+	}
+
+	/*
+	 * Largest sum contiguous subarray with Kadane's algorithm, tracking where the
+	 * best subarray starts and ends. Prints the sum, then the subarray. Large
+	 * inputs are summarized in parallel chunks, see MaxSubarraySum.
+	 * Time Complexity:O(n) Space Complexity:(1)
+	 */
+	public static class MaxSubarray implements Problem {
+		private int[] nums;
+		private Subarray best;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntArray(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			best = MaxSubarraySum.parallelMax(nums);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.println(best.sum());
+			out.printAll(nums, best.start(), best.end()).println();
+		}
+	}
+
+	/*
+	 * Leaders in an array, scanning from the right and keeping the running max.
+	 * Printed left to right. Time Complexity:O(n) Space Complexity:O(n)
+	 */
+	public static class Leaders implements Problem {
+		private int[] arr;
+		private int[] ans;
+
+		@Override
+		public void parse(FastReader sc) {
+			arr = sc.nextIntArray(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			ans = leadersReverseScan(arr);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.printAll(ans, 0, ans.length).println();
+		}
+	}
+
+	/*
+	 * Count subarrays whose sum equals K. Input is N, N integers, then K.
+	 * Prefix sums are counted in a hash map, so negative numbers and overlapping
+	 * subarrays are handled. Time Complexity: O(n) Space Complexity: O(n)
+	 */
+	public static class SubarraySumCount implements Problem {
+		private int[] nums;
+		private long k;
+		private long count;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntArray(sc.nextInt());
+			k = sc.nextLong();
+		}
+
+		@Override
+		public void solve() {
+			count = countSubarraysPrefixSum(nums, k);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.println(count);
+		}
+	}
+
+	/*
+	 * Length of the longest sequence of consecutive values, in any order in the
+	 * input. Prints the length, then its first and last value if it is not
+	 * empty. Time Complexity: O(n) Space Complexity: O(n)
+	 */
+	public static class LongestConsecutive implements Problem {
+		private int[] nums;
+		private ConsecutiveRun run;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntArray(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			run = LongestConsecutiveSequence.parallelLongest(nums);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.println(run.length());
+			if (!run.isEmpty()) {
+				out.print(run.first()).print(' ').println(run.last());
+			}
+		}
+	}
+
+	/*
+	 * Rotate an N x N matrix 90 degrees clockwise in place. Input is N, then the
+	 * N * N values row by row; prints the rotated rows. Cycles of four cells are
+	 * moved tile by tile, see MatrixRotation.
+	 * Time Complexity: O(N*N) Space Complexity: O(1)
+	 */
+	public static class RotateMatrix implements Problem {
+		private IntMatrix matrix;
+
+		@Override
+		public void parse(FastReader sc) {
+			int n = sc.nextInt();
+			matrix = IntMatrix.read(sc, n, n);
+		}
+
+		@Override
+		public void solve() {
+			matrix.rotate(1);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			matrix.print(out);
+		}
+	}
+
+	/*
+	 * Print an N x M matrix in spiral order. Input is N and M, then the N * M
+	 * values row by row; prints the cells on one line. The cells are streamed
+	 * from the matrix to the output by a SpiralCursor.
+	 * Time Complexity: O(N*M) Space Complexity: O(1)
+	 */
+	public static class SpiralOrder implements Problem {
+		private IntMatrix matrix;
+		private SpiralCursor cursor;
+
+		@Override
+		public void parse(FastReader sc) {
+			int rows = sc.nextInt();
+			int cols = sc.nextInt();
+			matrix = IntMatrix.read(sc, rows, cols);
+		}
+
+		@Override
+		public void solve() {
+			cursor = matrix.spiral();
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			cursor.writeTo(out);
+			out.println();
+		}
+	}
+
+	/*
+	 * Longest subarray whose sum equals K. Input is N, N integers, then K; prints
+	 * the length (0 if there is none), then the subarray. Works for negative
+	 * numbers too. Time Complexity: O(n) Space Complexity: O(n)
+	 */
+	public static class LongestSubarrayWithSum implements Problem {
+		private int[] nums;
+		private long k;
+		private Subarray longest;
+
+		@Override
+		public void parse(FastReader sc) {
+			nums = sc.nextIntArray(sc.nextInt());
+			k = sc.nextLong();
+		}
+
+		@Override
+		public void solve() {
+			longest = LongestSubarraySum.parallelLongest(nums, k);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.println(longest.length());
+			out.printAll(nums, longest.start(), longest.end()).println();
+		}
 	}
-}
\ No newline at end of file
+}
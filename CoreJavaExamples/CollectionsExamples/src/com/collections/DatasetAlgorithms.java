@@ -0,0 +1,114 @@
+package com.collections;
+
+import java.nio.IntBuffer;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+
+/**
+ * The array problems from {@link DSAProblemSolving} written against a
+ * {@link MappedIntDataset}, so they run over multi-GB dumps without copying
+ * them into the heap. Each method walks the mapped windows with absolute
+ * reads.
+ */
+public final class DatasetAlgorithms {
+
+	private DatasetAlgorithms() {
+	}
+
+	/**
+	 * Largest element. Time Complexity: O(n) Space Complexity: O(1)
+	 */
+	public static int max(MappedIntDataset data) {
+		requireNonEmpty(data);
+		int max = Integer.MIN_VALUE;
+		for (int w = 0; w < data.windowCount(); w++) {
+			IntBuffer window = data.window(w);
+			int limit = window.limit();
+			for (int i = 0; i < limit; i++) {
+				int value = window.get(i);
+				if (value > max) {
+					max = value;
+				}
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Largest contiguous subarray sum using Kadane's algorithm. The sum is a
+	 * long because billions of ints overflow an int.
+	 *
+	 * Time Complexity: O(n) Space Complexity: O(1)
+	 */
+	public static long maxSubarraySum(MappedIntDataset data) {
+		requireNonEmpty(data);
+		long best = Long.MIN_VALUE;
+		long endingHere = 0;
+		for (int w = 0; w < data.windowCount(); w++) {
+			IntBuffer window = data.window(w);
+			int limit = window.limit();
+			for (int i = 0; i < limit; i++) {
+				int value = window.get(i);
+				endingHere = Math.max(value, endingHere + value);
+				best = Math.max(best, endingHere);
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Element occurring more than n/2 times, found with Boyer-Moore voting over
+	 * chunks of the windows in parallel and confirmed by a second counting
+	 * pass. Empty if there is no majority. See {@link HeavyHitters}.
+	 *
+	 * Time Complexity: O(n) Space Complexity: O(1)
+	 */
+	public static OptionalInt majorityElement(MappedIntDataset data) {
+		return HeavyHitters.majority(data);
+	}
+
+	/**
+	 * Every element occurring more than n/k times, in ascending order, with the
+	 * Misra-Gries summary and a counting pass. See {@link HeavyHitters}.
+	 *
+	 * Time Complexity: O(n) Space Complexity: O(k)
+	 */
+	public static int[] heavyHitters(MappedIntDataset data, int k) {
+		return HeavyHitters.heavyHitters(data, k);
+	}
+
+	/**
+	 * Emits every leader (an element greater than everything to its right) to
+	 * {@code out}, scanning from the right as in the optimized solution, so
+	 * leaders arrive right to left.
+	 *
+	 * Time Complexity: O(n) Space Complexity: O(1)
+	 *
+	 * @return number of leaders emitted
+	 */
+	public static long leaders(MappedIntDataset data, IntConsumer out) {
+		long count = 0;
+		boolean first = true;
+		int max = 0;
+		for (int w = data.windowCount() - 1; w >= 0; w--) {
+			IntBuffer window = data.window(w);
+			for (int i = window.limit() - 1; i >= 0; i--) {
+				int value = window.get(i);
+				if (first || value > max) {
+					out.accept(value);
+					max = value;
+					first = false;
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	private static void requireNonEmpty(MappedIntDataset data) {
+		if (data.size() == 0) {
+			throw new NoSuchElementException("Dataset is empty");
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package com.collections;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares {@link IntArrayDeque} with {@code LinkedList<Integer>} and
+ * {@code ArrayDeque<Integer>} on the Problem 3.2 operations.
+ *
+ * Workloads:
+ * <ul>
+ * <li>random: PUSHFRONT, PUSHBACK, POPFRONT and POPBACK drawn at random, with
+ * pushes slightly more likely so the deque grows</li>
+ * <li>queue: push everything at the back, then pop it all from the front</li>
+ * <li>stack: push everything at the front, then pop it all from the front</li>
+ * </ul>
+ *
+ * Usage: java com.collections.DequeBenchmark [operations]
+ */
+public class DequeBenchmark {
+
+	private static final int ROUNDS = 5;
+	private static long sink;
+
+	public static void main(String[] args) {
+		int operations = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		Random random = new Random(42);
+		int[] ops = new int[operations];
+		int[] values = new int[operations];
+		for (int i = 0; i < operations; i++) {
+			int r = random.nextInt(100);
+			ops[i] = r < 30 ? 0 : r < 60 ? 1 : r < 80 ? 2 : 3;
+			values[i] = random.nextInt();
+		}
+
+		System.out.printf(Locale.ROOT, "%d operations%n", operations);
+		for (int round = 0; round < ROUNDS; round++) {
+			long[] random3 = { timeRandom(new LinkedList<>(), ops, values), timeRandom(new ArrayDeque<>(), ops, values),
+					timePrimitiveRandom(ops, values) };
+			long[] queue3 = { timeQueue(new LinkedList<>(), values), timeQueue(new ArrayDeque<>(), values),
+					timePrimitiveQueue(values) };
+			long[] stack3 = { timeStack(new LinkedList<>(), values), timeStack(new ArrayDeque<>(), values),
+					timePrimitiveStack(values) };
+			if (round == ROUNDS - 1) {
+				row("random", operations, random3);
+				row("queue", 2L * operations, queue3);
+				row("stack", 2L * operations, stack3);
+			}
+		}
+		System.out.println("sink " + sink);
+	}
+
+	private static void row(String name, long operations, long[] nanos) {
+		System.out.printf(Locale.ROOT,
+				"%-7s LinkedList %7.2f ns/op   ArrayDeque %7.2f ns/op   IntArrayDeque %7.2f ns/op   %5.1fx / %4.1fx%n",
+				name, (double) nanos[0] / operations, (double) nanos[1] / operations, (double) nanos[2] / operations,
+				(double) nanos[0] / nanos[2], (double) nanos[1] / nanos[2]);
+	}
+
+	private static long timeRandom(Deque<Integer> deque, int[] ops, int[] values) {
+		long start = System.nanoTime();
+		long checksum = 0;
+		for (int i = 0; i < ops.length; i++) {
+			switch (ops[i]) {
+			case 0:
+				deque.addFirst(values[i]);
+				break;
+			case 1:
+				deque.addLast(values[i]);
+				break;
+			case 2:
+				if (!deque.isEmpty()) {
+					checksum += deque.removeFirst();
+				}
+				break;
+			default:
+				if (!deque.isEmpty()) {
+					checksum += deque.removeLast();
+				}
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += checksum + deque.size();
+		return elapsed;
+	}
+
+	private static long timePrimitiveRandom(int[] ops, int[] values) {
+		IntArrayDeque deque = new IntArrayDeque();
+		long start = System.nanoTime();
+		long checksum = 0;
+		for (int i = 0; i < ops.length; i++) {
+			switch (ops[i]) {
+			case 0:
+				deque.addFirst(values[i]);
+				break;
+			case 1:
+				deque.addLast(values[i]);
+				break;
+			case 2:
+				if (!deque.isEmpty()) {
+					checksum += deque.removeFirst();
+				}
+				break;
+			default:
+				if (!deque.isEmpty()) {
+					checksum += deque.removeLast();
+				}
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += checksum + deque.size();
+		return elapsed;
+	}
+
+	private static long timeQueue(Deque<Integer> deque, int[] values) {
+		long start = System.nanoTime();
+		for (int value : values) {
+			deque.addLast(value);
+		}
+		long checksum = 0;
+		while (!deque.isEmpty()) {
+			checksum += deque.removeFirst();
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += checksum;
+		return elapsed;
+	}
+
+	private static long timePrimitiveQueue(int[] values) {
+		IntArrayDeque deque = new IntArrayDeque();
+		long start = System.nanoTime();
+		for (int value : values) {
+			deque.addLast(value);
+		}
+		long checksum = 0;
+		while (!deque.isEmpty()) {
+			checksum += deque.removeFirst();
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += checksum;
+		return elapsed;
+	}
+
+	private static long timeStack(Deque<Integer> deque, int[] values) {
+		long start = System.nanoTime();
+		for (int value : values) {
+			deque.addFirst(value);
+		}
+		long checksum = 0;
+		while (!deque.isEmpty()) {
+			checksum += deque.removeFirst();
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += checksum;
+		return elapsed;
+	}
+
+	private static long timePrimitiveStack(int[] values) {
+		IntArrayDeque deque = new IntArrayDeque();
+		long start = System.nanoTime();
+		for (int value : values) {
+			deque.addFirst(value);
+		}
+		long checksum = 0;
+		while (!deque.isEmpty()) {
+			checksum += deque.removeFirst();
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += checksum;
+		return elapsed;
+	}
+}
@@ -0,0 +1,285 @@
+package com.collections;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * Byte level replacement for {@link java.util.Scanner} when reading large
+ * integer inputs.
+ *
+ * Scanner matches every token against a regex and builds a String before
+ * parsing it, so it tops out at a few MB/s. FastReader fills a large byte
+ * buffer straight from the stream and parses digits by hand, so nextInt() and
+ * nextLong() never allocate. Tokens are separated by any byte <= ' ' (space,
+ * tab, CR, LF).
+ *
+ * Method names follow Scanner, so a problem moves over by changing only the
+ * line that creates the reader.
+ */
+public class FastReader implements Closeable {
+
+	private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	private final InputStream in;
+	private final byte[] buffer;
+	private int position;
+	private int limit;
+
+	public FastReader(InputStream in) {
+		this(in, DEFAULT_BUFFER_SIZE);
+	}
+
+	public FastReader(InputStream in, int bufferSize) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+		}
+		this.in = in;
+		this.buffer = new byte[bufferSize];
+	}
+
+	/**
+	 * Returns the next byte of input, or -1 at end of stream.
+	 */
+	private int read() {
+		if (position == limit) {
+			if (!fill()) {
+				return -1;
+			}
+		}
+		return buffer[position++] & 0xff;
+	}
+
+	private int peek() {
+		if (position == limit) {
+			if (!fill()) {
+				return -1;
+			}
+		}
+		return buffer[position] & 0xff;
+	}
+
+	/**
+	 * Pushes back the separator that ended a token so a following nextLine()
+	 * sees the rest of the current line, as with Scanner. Only valid directly
+	 * after a successful read().
+	 */
+	private void unread(int c) {
+		if (c != -1) {
+			position--;
+		}
+	}
+
+	private boolean fill() {
+		try {
+			int n = in.read(buffer, 0, buffer.length);
+			while (n == 0) {
+				n = in.read(buffer, 0, buffer.length);
+			}
+			if (n < 0) {
+				position = 0;
+				limit = 0;
+				return false;
+			}
+			position = 0;
+			limit = n;
+			return true;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Skips separators and returns the first byte of the next token, or -1 if
+	 * the input is exhausted.
+	 */
+	private int skipSeparators() {
+		int c = read();
+		while (c != -1 && c <= ' ') {
+			c = read();
+		}
+		return c;
+	}
+
+	/**
+	 * Returns true if another token is available.
+	 */
+	public boolean hasNext() {
+		int c = peek();
+		while (c != -1 && c <= ' ') {
+			position++;
+			c = peek();
+		}
+		return c != -1;
+	}
+
+	public int nextInt() {
+		long value = nextLong();
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw new InputMismatchException("Value out of int range: " + value);
+		}
+		return (int) value;
+	}
+
+	public long nextLong() {
+		int c = skipSeparators();
+		if (c == -1) {
+			throw new NoSuchElementException();
+		}
+
+		boolean negative = false;
+		if (c == '-') {
+			negative = true;
+			c = read();
+		} else if (c == '+') {
+			c = read();
+		}
+		if (c < '0' || c > '9') {
+			throw new InputMismatchException("Expected a digit but found '" + (char) c + "'");
+		}
+
+		// accumulate as a negative number so Long.MIN_VALUE parses without overflow
+		long result = 0;
+		while (c >= '0' && c <= '9') {
+			int digit = c - '0';
+			if (result < (Long.MIN_VALUE + digit) / 10) {
+				throw new InputMismatchException("Value out of long range");
+			}
+			result = result * 10 - digit;
+			c = read();
+		}
+		if (c > ' ') {
+			throw new InputMismatchException("Unexpected character '" + (char) c + "' in number");
+		}
+		unread(c);
+		if (negative) {
+			return result;
+		}
+		if (result == Long.MIN_VALUE) {
+			throw new InputMismatchException("Value out of long range");
+		}
+		return -result;
+	}
+
+	/**
+	 * Copies the next token into {@code dst} and returns its length. Use this
+	 * instead of {@link #next()} for command words such as "INSERT" or "PEEK" to
+	 * keep the read loop allocation free.
+	 */
+	public int nextWord(byte[] dst) {
+		int c = skipSeparators();
+		if (c == -1) {
+			throw new NoSuchElementException();
+		}
+		int length = 0;
+		while (c > ' ') {
+			if (length == dst.length) {
+				throw new InputMismatchException("Token longer than " + dst.length + " bytes");
+			}
+			dst[length++] = (byte) c;
+			c = read();
+		}
+		unread(c);
+		return length;
+	}
+
+	/**
+	 * Returns true if the first {@code length} bytes of {@code word} spell
+	 * {@code expected}. Pairs with {@link #nextWord(byte[])}.
+	 */
+	public static boolean wordEquals(byte[] word, int length, String expected) {
+		if (length != expected.length()) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (word[i] != expected.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public String next() {
+		int c = skipSeparators();
+		if (c == -1) {
+			throw new NoSuchElementException();
+		}
+		StringBuilder sb = new StringBuilder();
+		while (c > ' ') {
+			sb.append((char) c);
+			c = read();
+		}
+		unread(c);
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the rest of the current line without the line terminator, or
+	 * throws if the input is already exhausted.
+	 */
+	public String nextLine() {
+		int c = read();
+		if (c == -1) {
+			throw new NoSuchElementException();
+		}
+		byte[] line = new byte[64];
+		int length = 0;
+		while (c != -1 && c != '\n') {
+			if (c != '\r') {
+				if (length == line.length) {
+					byte[] grown = new byte[line.length * 2];
+					System.arraycopy(line, 0, grown, 0, length);
+					line = grown;
+				}
+				line[length++] = (byte) c;
+			}
+			c = read();
+		}
+		return new String(line, 0, length, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads {@code n} ints into a new array.
+	 */
+	public int[] nextIntArray(int n) {
+		int[] values = new int[n];
+		nextInts(values, 0, n);
+		return values;
+	}
+
+	/**
+	 * Reads ints into {@code dst[from, to)}, for filling existing storage.
+	 */
+	public void nextInts(int[] dst, int from, int to) {
+		if (from < 0 || to > dst.length || from > to) {
+			throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + dst.length);
+		}
+		for (int i = from; i < to; i++) {
+			dst[i] = nextInt();
+		}
+	}
+
+	/**
+	 * Reads {@code n} ints into a new {@link IntArrayList}.
+	 */
+	public IntArrayList nextIntList(int n) {
+		IntArrayList values = new IntArrayList(n);
+		for (int i = 0; i < n; i++) {
+			values.add(nextInt());
+		}
+		return values;
+	}
+
+	@Override
+	public void close() {
+		try {
+			in.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,223 @@
+package com.collections;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered output sink, the writing side of {@link FastReader}.
+ *
+ * A {@code System.out.print(num + " ")} loop builds a String and takes the
+ * PrintStream lock for every element. FastWriter formats ints and longs
+ * straight into a reusable byte buffer and only touches the underlying stream
+ * when the buffer is full or on {@link #flush()}. The print methods return
+ * {@code this} so an element and its separator can be written as
+ * {@code out.print(num).print(' ')}.
+ *
+ * Nothing is visible until flush() or close() is called.
+ */
+public class FastWriter implements Flushable, Closeable {
+
+	private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+	// longest long is "-9223372036854775808", 20 bytes
+	private static final int MAX_LONG_DIGITS = 20;
+
+	private final OutputStream out;
+	private final byte[] buffer;
+	private int position;
+
+	public FastWriter(OutputStream out) {
+		this(out, DEFAULT_BUFFER_SIZE);
+	}
+
+	public FastWriter(OutputStream out, int bufferSize) {
+		if (bufferSize < MAX_LONG_DIGITS) {
+			throw new IllegalArgumentException("bufferSize must be at least " + MAX_LONG_DIGITS + ": " + bufferSize);
+		}
+		this.out = out;
+		this.buffer = new byte[bufferSize];
+	}
+
+	private void ensureCapacity(int bytes) {
+		if (buffer.length - position < bytes) {
+			flushBuffer();
+		}
+	}
+
+	private void flushBuffer() {
+		if (position == 0) {
+			return;
+		}
+		try {
+			out.write(buffer, 0, position);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		position = 0;
+	}
+
+	public FastWriter print(int value) {
+		return print((long) value);
+	}
+
+	public FastWriter print(long value) {
+		ensureCapacity(MAX_LONG_DIGITS);
+		if (value == Long.MIN_VALUE) {
+			return print("-9223372036854775808");
+		}
+		if (value < 0) {
+			buffer[position++] = '-';
+			value = -value;
+		}
+		// write digits backwards into place, then advance past them
+		int length = digitCount(value);
+		int end = position + length;
+		int i = end;
+		do {
+			buffer[--i] = (byte) ('0' + value % 10);
+			value /= 10;
+		} while (value != 0);
+		position = end;
+		return this;
+	}
+
+	private static int digitCount(long value) {
+		int count = 1;
+		while (value >= 10) {
+			value /= 10;
+			count++;
+		}
+		return count;
+	}
+
+	public FastWriter print(char c) {
+		if (c < 0x80) {
+			ensureCapacity(1);
+			buffer[position++] = (byte) c;
+			return this;
+		}
+		return print(String.valueOf(c));
+	}
+
+	public FastWriter print(String s) {
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			if (s.charAt(i) >= 0x80) {
+				return write(s.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		int i = 0;
+		while (i < length) {
+			if (position == buffer.length) {
+				flushBuffer();
+			}
+			int chunk = Math.min(length - i, buffer.length - position);
+			for (int j = 0; j < chunk; j++) {
+				buffer[position++] = (byte) s.charAt(i++);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Boxed Integer and Long values (for example {@code list.get(i)}) are
+	 * formatted without going through a String.
+	 */
+	public FastWriter print(Object value) {
+		if (value instanceof Integer i) {
+			return print(i.intValue());
+		}
+		if (value instanceof Long l) {
+			return print(l.longValue());
+		}
+		return print(String.valueOf(value));
+	}
+
+	private FastWriter write(byte[] bytes) {
+		return write(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Copies raw bytes, for example output captured earlier in a
+	 * {@link java.io.ByteArrayOutputStream}.
+	 */
+	public FastWriter write(byte[] bytes, int offset, int length) {
+		int i = offset;
+		int end = offset + length;
+		while (i < end) {
+			if (position == buffer.length) {
+				flushBuffer();
+			}
+			int chunk = Math.min(end - i, buffer.length - position);
+			System.arraycopy(bytes, i, buffer, position, chunk);
+			position += chunk;
+			i += chunk;
+		}
+		return this;
+	}
+
+	public FastWriter println() {
+		return print('\n');
+	}
+
+	public FastWriter println(int value) {
+		return print(value).print('\n');
+	}
+
+	public FastWriter println(long value) {
+		return print(value).print('\n');
+	}
+
+	public FastWriter println(char c) {
+		return print(c).print('\n');
+	}
+
+	public FastWriter println(String s) {
+		return print(s).print('\n');
+	}
+
+	public FastWriter println(Object value) {
+		return print(value).print('\n');
+	}
+
+	/**
+	 * Writes {@code values[from, to)} separated by single spaces, without a
+	 * trailing newline.
+	 */
+	public FastWriter printAll(int[] values, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (i > from) {
+				print(' ');
+			}
+			print(values[i]);
+		}
+		return this;
+	}
+
+	@Override
+	public void flush() {
+		flushBuffer();
+		try {
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Flushes and closes the underlying stream. Do not call this on a writer
+	 * wrapping {@code System.out} unless the program is done printing.
+	 */
+	@Override
+	public void close() {
+		flush();
+		try {
+			out.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
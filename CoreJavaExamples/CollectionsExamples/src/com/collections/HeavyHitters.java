@@ -0,0 +1,429 @@
+package com.collections;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Elements occurring more than n/k times, found with the Misra-Gries summary
+ * in one pass and O(k) memory.
+ *
+ * The summary keeps at most k - 1 (value, count) counters. A value that has a
+ * counter gets its count incremented; a new value takes a free counter; when
+ * none is free, every counter is decremented instead and the ones reaching
+ * zero are dropped. Each count is then at most n/k below the true count, so
+ * every element occurring more than n/k times is still held at the end. The
+ * converse does not hold, so the counters are only candidates until a second
+ * pass counts them exactly. With k = 2 this is Boyer-Moore majority voting.
+ *
+ * Summaries are mergeable: adding the counters of two summaries and
+ * subtracting the k-th largest count keeps the same guarantee for the
+ * combined input. That is what lets the static methods summarize chunks in
+ * parallel and merge them, and what {@link #summarize(IntStream, int)} hands to
+ * a parallel stream's collect.
+ *
+ * The static methods take an int[], a {@link MappedIntDataset} or a source of
+ * streams, and all verify the candidates exactly. An instance is the streaming
+ * form: feed it values with {@link #add(int)} (or as an IntConsumer) and read
+ * the {@link #candidates()}.
+ */
+public class HeavyHitters implements IntConsumer {
+
+	// elements per chunk in the parallel modes
+	private static final int CHUNK = 1 << 20;
+	// up to this many counters a linear scan beats a hash lookup
+	private static final int LINEAR_LIMIT = 8;
+
+	private final int k;
+	private final int capacity;
+	private int[] values;
+	private long[] counts;
+	private int size;
+	private IntIntHashMap index; // value to counter slot, only above LINEAR_LIMIT
+	private long elements;
+
+	/**
+	 * @param k the summary finds every element occurring more than n/k times,
+	 *          with k - 1 counters; 2 finds the majority
+	 */
+	public HeavyHitters(int k) {
+		if (k < 2) {
+			throw new IllegalArgumentException("k must be at least 2: " + k);
+		}
+		this.k = k;
+		this.capacity = k - 1;
+		this.values = new int[capacity];
+		this.counts = new long[capacity];
+		if (capacity > LINEAR_LIMIT) {
+			index = new IntIntHashMap(capacity);
+		}
+	}
+
+	public void add(int value) {
+		elements++;
+		int slot = slotOf(value);
+		if (slot >= 0) {
+			counts[slot]++;
+		} else if (size < capacity) {
+			insert(value, 1);
+		} else {
+			reduce(1);
+		}
+	}
+
+	@Override
+	public void accept(int value) {
+		add(value);
+	}
+
+	public void add(int[] a, int from, int to) {
+		for (int i = from; i < to; i++) {
+			add(a[i]);
+		}
+	}
+
+	private void add(IntBuffer buffer, int from, int to) {
+		for (int i = from; i < to; i++) {
+			add(buffer.get(i));
+		}
+	}
+
+	private int slotOf(int value) {
+		if (index != null) {
+			return index.getOrDefault(value, -1);
+		}
+		for (int i = 0; i < size; i++) {
+			if (values[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void insert(int value, long count) {
+		values[size] = value;
+		counts[size] = count;
+		if (index != null) {
+			index.put(value, size);
+		}
+		size++;
+	}
+
+	/**
+	 * Subtracts {@code amount} from every counter and drops the ones that are
+	 * no longer positive.
+	 */
+	private void reduce(long amount) {
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			long count = counts[i] - amount;
+			if (count > 0) {
+				values[kept] = values[i];
+				counts[kept] = count;
+				kept++;
+			}
+		}
+		size = kept;
+		if (index != null) {
+			index.clear();
+			for (int i = 0; i < size; i++) {
+				index.put(values[i], i);
+			}
+		}
+	}
+
+	/**
+	 * Folds another summary with the same k into this one, as if its input had
+	 * been added here.
+	 */
+	public void merge(HeavyHitters other) {
+		if (other.k != k) {
+			throw new IllegalArgumentException("Cannot merge summaries for k = " + k + " and k = " + other.k);
+		}
+		elements += other.elements;
+		int[] mergedValues = Arrays.copyOf(values, size + other.size);
+		long[] mergedCounts = Arrays.copyOf(counts, size + other.size);
+		int merged = size;
+		for (int j = 0; j < other.size; j++) {
+			int slot = slotOf(other.values[j]);
+			if (slot >= 0) {
+				mergedCounts[slot] += other.counts[j];
+			} else {
+				mergedValues[merged] = other.values[j];
+				mergedCounts[merged] = other.counts[j];
+				merged++;
+			}
+		}
+		long cut = 0;
+		if (merged > capacity) {
+			long[] sorted = Arrays.copyOf(mergedCounts, merged);
+			Arrays.sort(sorted);
+			cut = sorted[merged - k]; // the k-th largest count
+		}
+		size = 0;
+		if (index != null) {
+			index.clear();
+		}
+		for (int i = 0; i < merged; i++) {
+			if (mergedCounts[i] > cut) {
+				insert(mergedValues[i], mergedCounts[i] - cut);
+			}
+		}
+	}
+
+	/**
+	 * Values that may occur more than n/k times, in no particular order. Every
+	 * value that does is included.
+	 */
+	public int[] candidates() {
+		return Arrays.copyOf(values, size);
+	}
+
+	/**
+	 * Lower bound on how often {@code value} occurred: its counter, or 0. The
+	 * true count is at most {@link #elements()} / k higher.
+	 */
+	public long estimate(int value) {
+		int slot = slotOf(value);
+		return slot >= 0 ? counts[slot] : 0;
+	}
+
+	/**
+	 * Number of values added so far, including merged summaries.
+	 */
+	public long elements() {
+		return elements;
+	}
+
+	public int k() {
+		return k;
+	}
+
+	/*
+	 * =========================================================================
+	 * Exact answers: a parallel summary pass, then a parallel counting pass
+	 * over the candidates.
+	 * =========================================================================
+	 */
+
+	/**
+	 * Element occurring more than n/2 times, if any. Boyer-Moore voting runs on
+	 * chunks in parallel; the chunk votes are merged, and the surviving
+	 * candidate is counted exactly.
+	 */
+	public static OptionalInt majority(int[] a) {
+		return majority(Chunks.of(a));
+	}
+
+	public static OptionalInt majority(MappedIntDataset data) {
+		return majority(Chunks.of(data));
+	}
+
+	/**
+	 * Every element occurring more than n/k times, in ascending order.
+	 */
+	public static int[] heavyHitters(int[] a, int k) {
+		return heavyHitters(Chunks.of(a), k);
+	}
+
+	public static int[] heavyHitters(MappedIntDataset data, int k) {
+		return heavyHitters(Chunks.of(data), k);
+	}
+
+	/**
+	 * Summary of a stream, built with collect so a parallel stream summarizes
+	 * its splits separately and merges them.
+	 */
+	public static HeavyHitters summarize(IntStream values, int k) {
+		return values.collect(() -> new HeavyHitters(k), HeavyHitters::add, HeavyHitters::merge);
+	}
+
+	/**
+	 * Every element occurring more than n/k times in a stream that can be
+	 * replayed: the first stream is summarized and the second one counts the
+	 * candidates. Both must produce the same values.
+	 */
+	public static int[] heavyHitters(Supplier<? extends IntStream> source, int k) {
+		HeavyHitters summary = summarize(source.get(), k);
+		int[] candidates = summary.candidates();
+		IntIntHashMap slots = slots(candidates);
+		long[] counts = source.get().collect(() -> new long[candidates.length], (c, value) -> {
+			int slot = slots.getOrDefault(value, -1);
+			if (slot >= 0) {
+				c[slot]++;
+			}
+		}, HeavyHitters::addCounts);
+		return frequent(candidates, counts, summary.elements(), k);
+	}
+
+	private static OptionalInt majority(Chunks chunks) {
+		if (chunks.elements == 0) {
+			return OptionalInt.empty();
+		}
+		int[] candidate = new int[chunks.count];
+		long[] votes = new long[chunks.count];
+		chunks.parallel().forEach(c -> {
+			IntBuffer buffer = chunks.buffers[c];
+			int current = 0;
+			long v = 0;
+			for (int i = chunks.from[c], end = chunks.to[c]; i < end; i++) {
+				int value = buffer.get(i);
+				if (v == 0) {
+					current = value;
+					v = 1;
+				} else if (value == current) {
+					v++;
+				} else {
+					v--;
+				}
+			}
+			candidate[c] = current;
+			votes[c] = v;
+		});
+		// merging two votes is the k = 2 summary merge: equal candidates add up,
+		// different ones cancel
+		int winner = 0;
+		long total = 0;
+		for (int c = 0; c < chunks.count; c++) {
+			if (candidate[c] == winner) {
+				total += votes[c];
+			} else if (votes[c] > total) {
+				winner = candidate[c];
+				total = votes[c] - total;
+			} else {
+				total -= votes[c];
+			}
+		}
+		int majority = winner;
+		long count = chunks.parallel().mapToLong(c -> {
+			IntBuffer buffer = chunks.buffers[c];
+			long matches = 0;
+			for (int i = chunks.from[c], end = chunks.to[c]; i < end; i++) {
+				if (buffer.get(i) == majority) {
+					matches++;
+				}
+			}
+			return matches;
+		}).sum();
+		return count > chunks.elements / 2 ? OptionalInt.of(majority) : OptionalInt.empty();
+	}
+
+	private static int[] heavyHitters(Chunks chunks, int k) {
+		HeavyHitters[] summaries = new HeavyHitters[chunks.count];
+		chunks.parallel().forEach(c -> {
+			HeavyHitters summary = new HeavyHitters(k);
+			summary.add(chunks.buffers[c], chunks.from[c], chunks.to[c]);
+			summaries[c] = summary;
+		});
+		HeavyHitters summary = new HeavyHitters(k);
+		for (HeavyHitters part : summaries) {
+			summary.merge(part);
+		}
+
+		int[] candidates = summary.candidates();
+		IntIntHashMap slots = slots(candidates);
+		long[][] chunkCounts = new long[chunks.count][];
+		chunks.parallel().forEach(c -> {
+			IntBuffer buffer = chunks.buffers[c];
+			long[] counts = new long[candidates.length];
+			for (int i = chunks.from[c], end = chunks.to[c]; i < end; i++) {
+				int slot = slots.getOrDefault(buffer.get(i), -1);
+				if (slot >= 0) {
+					counts[slot]++;
+				}
+			}
+			chunkCounts[c] = counts;
+		});
+		long[] counts = new long[candidates.length];
+		for (long[] part : chunkCounts) {
+			addCounts(counts, part);
+		}
+		return frequent(candidates, counts, chunks.elements, k);
+	}
+
+	private static IntIntHashMap slots(int[] candidates) {
+		IntIntHashMap slots = new IntIntHashMap(candidates.length);
+		for (int i = 0; i < candidates.length; i++) {
+			slots.put(candidates[i], i);
+		}
+		return slots;
+	}
+
+	private static void addCounts(long[] into, long[] counts) {
+		for (int i = 0; i < into.length; i++) {
+			into[i] += counts[i];
+		}
+	}
+
+	/**
+	 * Candidates whose exact count exceeds n/k, sorted.
+	 */
+	private static int[] frequent(int[] candidates, long[] counts, long n, int k) {
+		int[] result = new int[candidates.length];
+		int found = 0;
+		for (int i = 0; i < candidates.length; i++) {
+			if (counts[i] > n / k) {
+				result[found++] = candidates[i];
+			}
+		}
+		result = Arrays.copyOf(result, found);
+		Arrays.sort(result);
+		return result;
+	}
+
+	/**
+	 * The input cut into ranges of at most {@link #CHUNK} elements, each a
+	 * range of one buffer: a wrapped array, or one window of a mapped dataset.
+	 */
+	private static final class Chunks {
+		final IntBuffer[] buffers;
+		final int[] from;
+		final int[] to;
+		final int count;
+		final long elements;
+
+		private Chunks(IntBuffer[] windows, long elements) {
+			int count = 0;
+			for (IntBuffer window : windows) {
+				count += (window.limit() + CHUNK - 1) / CHUNK;
+			}
+			this.buffers = new IntBuffer[count];
+			this.from = new int[count];
+			this.to = new int[count];
+			this.count = count;
+			this.elements = elements;
+			int c = 0;
+			for (IntBuffer window : windows) {
+				for (int start = 0; start < window.limit(); start += CHUNK) {
+					buffers[c] = window;
+					from[c] = start;
+					to[c] = Math.min(window.limit(), start + CHUNK);
+					c++;
+				}
+			}
+		}
+
+		static Chunks of(int[] a) {
+			return new Chunks(new IntBuffer[] { IntBuffer.wrap(a) }, a.length);
+		}
+
+		static Chunks of(MappedIntDataset data) {
+			IntBuffer[] windows = new IntBuffer[data.windowCount()];
+			for (int w = 0; w < windows.length; w++) {
+				windows[w] = data.window(w);
+			}
+			return new Chunks(windows, data.size());
+		}
+
+		/**
+		 * Chunk indices, in parallel unless there is only one chunk.
+		 */
+		IntStream parallel() {
+			IntStream chunks = IntStream.range(0, count);
+			return count > 1 ? chunks.parallel() : chunks;
+		}
+	}
+}
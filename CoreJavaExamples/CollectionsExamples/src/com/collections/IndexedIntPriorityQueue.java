@@ -0,0 +1,287 @@
+package com.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Priority queue of int values with int priorities, for LinkedList Problem
+ * 2.3. A smaller priority comes out first (1 is the highest priority), and
+ * values of equal priority come out in insertion order.
+ *
+ * A binary min-heap ordered by (priority, insertion sequence). The heap is
+ * kept in parallel primitive arrays, so nothing is boxed and a comparison
+ * reads two arrays side by side.
+ *
+ * {@link #insert(int, int)} returns a handle naming the element. The queue
+ * tracks where each handle sits in the heap, which makes
+ * {@link #decreaseKey(int, int)} and {@link #remove(int)} O(log n) instead of
+ * a search. A handle is valid until its element leaves the queue; after that
+ * it may be reused for a later insert.
+ */
+public class IndexedIntPriorityQueue {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	// heap slots, indexed by heap position
+	private int[] heapPriority;
+	private long[] heapSequence;
+	private int[] heapHandle;
+	private int size;
+
+	// per handle: its value and its heap position, or -1 when free
+	private int[] handleValue;
+	private int[] handlePosition;
+	private int[] freeHandles;
+	private int freeCount;
+	private int handleCount;
+
+	private long nextSequence;
+
+	public IndexedIntPriorityQueue() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public IndexedIntPriorityQueue(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+		}
+		int capacity = Math.max(1, initialCapacity);
+		heapPriority = new int[capacity];
+		heapSequence = new long[capacity];
+		heapHandle = new int[capacity];
+		handleValue = new int[capacity];
+		handlePosition = new int[capacity];
+		freeHandles = new int[capacity];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Adds {@code value} with {@code priority} and returns its handle.
+	 */
+	public int insert(int value, int priority) {
+		if (size == heapPriority.length) {
+			grow();
+		}
+		int handle = freeCount > 0 ? freeHandles[--freeCount] : handleCount++;
+		handleValue[handle] = value;
+		int i = size++;
+		heapPriority[i] = priority;
+		heapSequence[i] = nextSequence++;
+		heapHandle[i] = handle;
+		handlePosition[handle] = i;
+		siftUp(i);
+		return handle;
+	}
+
+	/**
+	 * Value of the first element.
+	 *
+	 * @throws NoSuchElementException if the queue is empty
+	 */
+	public int peek() {
+		return handleValue[peekHandle()];
+	}
+
+	/**
+	 * Priority of the first element.
+	 *
+	 * @throws NoSuchElementException if the queue is empty
+	 */
+	public int peekPriority() {
+		requireNonEmpty();
+		return heapPriority[0];
+	}
+
+	/**
+	 * Handle of the first element.
+	 *
+	 * @throws NoSuchElementException if the queue is empty
+	 */
+	public int peekHandle() {
+		requireNonEmpty();
+		return heapHandle[0];
+	}
+
+	/**
+	 * Removes the first element and returns its value.
+	 *
+	 * @throws NoSuchElementException if the queue is empty
+	 */
+	public int poll() {
+		requireNonEmpty();
+		int handle = heapHandle[0];
+		int value = handleValue[handle];
+		removeAt(0);
+		return value;
+	}
+
+	/**
+	 * True if {@code handle} names an element still in the queue.
+	 */
+	public boolean contains(int handle) {
+		return handle >= 0 && handle < handleCount && handlePosition[handle] >= 0;
+	}
+
+	public int value(int handle) {
+		checkHandle(handle);
+		return handleValue[handle];
+	}
+
+	public int priority(int handle) {
+		checkHandle(handle);
+		return heapPriority[handlePosition[handle]];
+	}
+
+	/**
+	 * Moves the element named by {@code handle} forward to {@code priority}. It
+	 * keeps its insertion sequence, so among equal priorities it still ranks
+	 * by when it was first inserted.
+	 *
+	 * @throws IllegalArgumentException if the handle is not in the queue or the
+	 *                                  new priority is lower (larger) than the
+	 *                                  current one
+	 */
+	public void decreaseKey(int handle, int priority) {
+		checkHandle(handle);
+		int i = handlePosition[handle];
+		if (priority > heapPriority[i]) {
+			throw new IllegalArgumentException(
+					"New priority " + priority + " is lower than current priority " + heapPriority[i]);
+		}
+		heapPriority[i] = priority;
+		siftUp(i);
+	}
+
+	/**
+	 * Removes the element named by {@code handle} and returns its value.
+	 *
+	 * @throws IllegalArgumentException if the handle is not in the queue
+	 */
+	public int remove(int handle) {
+		checkHandle(handle);
+		int value = handleValue[handle];
+		removeAt(handlePosition[handle]);
+		return value;
+	}
+
+	public void clear() {
+		size = 0;
+		freeCount = 0;
+		handleCount = 0;
+	}
+
+	private void requireNonEmpty() {
+		if (size == 0) {
+			throw new NoSuchElementException("Priority queue is empty");
+		}
+	}
+
+	private void checkHandle(int handle) {
+		if (!contains(handle)) {
+			throw new IllegalArgumentException("Not in the queue: handle " + handle);
+		}
+	}
+
+	private void removeAt(int i) {
+		int handle = heapHandle[i];
+		handlePosition[handle] = -1;
+		freeHandles[freeCount++] = handle;
+		int last = --size;
+		if (i != last) {
+			move(last, i);
+			// the moved element may belong above or below i
+			if (!siftUp(i)) {
+				siftDown(i);
+			}
+		}
+	}
+
+	/**
+	 * True if the element at {@code a} comes out before the one at {@code b}.
+	 */
+	private boolean before(int a, int b) {
+		int pa = heapPriority[a];
+		int pb = heapPriority[b];
+		return pa < pb || pa == pb && heapSequence[a] < heapSequence[b];
+	}
+
+	/**
+	 * Moves the element at {@code i} up past every parent it comes before.
+	 *
+	 * @return true if it moved
+	 */
+	private boolean siftUp(int i) {
+		int start = i;
+		int priority = heapPriority[i];
+		long sequence = heapSequence[i];
+		int handle = heapHandle[i];
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			int pp = heapPriority[parent];
+			if (pp < priority || pp == priority && heapSequence[parent] < sequence) {
+				break;
+			}
+			move(parent, i);
+			i = parent;
+		}
+		place(i, priority, sequence, handle);
+		return i != start;
+	}
+
+	private void siftDown(int i) {
+		int priority = heapPriority[i];
+		long sequence = heapSequence[i];
+		int handle = heapHandle[i];
+		int half = size >>> 1; // positions below half have a child
+		while (i < half) {
+			int child = 2 * i + 1;
+			int right = child + 1;
+			if (right < size && before(right, child)) {
+				child = right;
+			}
+			int pc = heapPriority[child];
+			if (priority < pc || priority == pc && sequence < heapSequence[child]) {
+				break;
+			}
+			move(child, i);
+			i = child;
+		}
+		place(i, priority, sequence, handle);
+	}
+
+	private void move(int from, int to) {
+		heapPriority[to] = heapPriority[from];
+		heapSequence[to] = heapSequence[from];
+		heapHandle[to] = heapHandle[from];
+		handlePosition[heapHandle[to]] = to;
+	}
+
+	private void place(int i, int priority, long sequence, int handle) {
+		heapPriority[i] = priority;
+		heapSequence[i] = sequence;
+		heapHandle[i] = handle;
+		handlePosition[handle] = i;
+	}
+
+	private void grow() {
+		int capacity = heapPriority.length;
+		if (capacity >= Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("Priority queue is full");
+		}
+		int newCapacity = (int) Math.min(Integer.MAX_VALUE - 8L, capacity + ((long) capacity >> 1) + 1);
+		heapPriority = Arrays.copyOf(heapPriority, newCapacity);
+		heapSequence = Arrays.copyOf(heapSequence, newCapacity);
+		heapHandle = Arrays.copyOf(heapHandle, newCapacity);
+		// every handle is in use when the heap is full
+		handleValue = Arrays.copyOf(handleValue, newCapacity);
+		handlePosition = Arrays.copyOf(handlePosition, newCapacity);
+		freeHandles = Arrays.copyOf(freeHandles, newCapacity);
+	}
+}
@@ -0,0 +1,162 @@
+package com.collections;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * Double-ended queue of primitive ints in a circular array.
+ *
+ * {@code LinkedList<Integer>} allocates a node and a boxed Integer per
+ * element and follows a pointer on every step. Here the elements sit in one
+ * int[] whose length is a power of two, so wrapping an index around is a mask
+ * instead of a modulo, and adding or removing at either end is O(1) (amortized
+ * when the array has to double).
+ */
+public class IntArrayDeque {
+
+	private static final int MIN_CAPACITY = 8;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private int[] elements;
+	private int head; // index of the first element
+	private int size;
+
+	public IntArrayDeque() {
+		this(MIN_CAPACITY);
+	}
+
+	public IntArrayDeque(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+		}
+		if (initialCapacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException("Capacity too large: " + initialCapacity);
+		}
+		int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1);
+		elements = new int[capacity];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void addFirst(int value) {
+		if (size == elements.length) {
+			grow();
+		}
+		head = (head - 1) & (elements.length - 1);
+		elements[head] = value;
+		size++;
+	}
+
+	public void addLast(int value) {
+		if (size == elements.length) {
+			grow();
+		}
+		elements[(head + size) & (elements.length - 1)] = value;
+		size++;
+	}
+
+	/**
+	 * @throws NoSuchElementException if the deque is empty
+	 */
+	public int removeFirst() {
+		requireNonEmpty();
+		int value = elements[head];
+		head = (head + 1) & (elements.length - 1);
+		size--;
+		return value;
+	}
+
+	/**
+	 * @throws NoSuchElementException if the deque is empty
+	 */
+	public int removeLast() {
+		requireNonEmpty();
+		size--;
+		return elements[(head + size) & (elements.length - 1)];
+	}
+
+	/**
+	 * @throws NoSuchElementException if the deque is empty
+	 */
+	public int getFirst() {
+		requireNonEmpty();
+		return elements[head];
+	}
+
+	/**
+	 * @throws NoSuchElementException if the deque is empty
+	 */
+	public int getLast() {
+		requireNonEmpty();
+		return elements[(head + size - 1) & (elements.length - 1)];
+	}
+
+	/**
+	 * Element {@code index} positions from the front.
+	 */
+	public int get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return elements[(head + index) & (elements.length - 1)];
+	}
+
+	public void clear() {
+		head = 0;
+		size = 0;
+	}
+
+	/**
+	 * Visits the elements from front to back.
+	 */
+	public void forEach(IntConsumer action) {
+		int mask = elements.length - 1;
+		for (int i = 0; i < size; i++) {
+			action.accept(elements[(head + i) & mask]);
+		}
+	}
+
+	/**
+	 * The elements from front to back.
+	 */
+	public int[] toArray() {
+		int[] values = new int[size];
+		int firstPart = Math.min(size, elements.length - head);
+		System.arraycopy(elements, head, values, 0, firstPart);
+		System.arraycopy(elements, 0, values, firstPart, size - firstPart);
+		return values;
+	}
+
+	private void requireNonEmpty() {
+		if (size == 0) {
+			throw new NoSuchElementException("Deque is empty");
+		}
+	}
+
+	/**
+	 * Doubles the array and unrolls the elements so the head is at 0 again.
+	 */
+	private void grow() {
+		if (elements.length == MAX_CAPACITY) {
+			throw new IllegalStateException("Deque is full");
+		}
+		int[] bigger = new int[elements.length << 1];
+		int firstPart = elements.length - head;
+		System.arraycopy(elements, head, bigger, 0, firstPart);
+		System.arraycopy(elements, 0, bigger, firstPart, head);
+		elements = bigger;
+		head = 0;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
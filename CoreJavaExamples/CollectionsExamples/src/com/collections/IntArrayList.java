@@ -0,0 +1,493 @@
+package com.collections;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Growable list of primitive ints with the ArrayList API the problems use.
+ *
+ * {@code ArrayList<Integer>} stores a reference to a boxed Integer per element
+ * (about 20 bytes each with the object header) and boxes or unboxes on every
+ * get and set. IntArrayList keeps a plain int[] and grows it by half like
+ * ArrayList does, so an element costs 4 bytes and get/set are array accesses.
+ *
+ * Because {@code remove(int)} would be ambiguous between an index and a
+ * value, removal by value is {@link #removeValue(int)}.
+ */
+public class IntArrayList {
+
+	private static final int DEFAULT_CAPACITY = 10;
+	private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+	private static final int[] EMPTY = {};
+
+	private int[] elements;
+	private int size;
+	// structural changes, as in ArrayList; guards iterators and subList views
+	private int modCount;
+	// every change to the contents, including set; see version()
+	private int version;
+
+	public IntArrayList() {
+		elements = EMPTY;
+	}
+
+	public IntArrayList(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+		}
+		elements = initialCapacity == 0 ? EMPTY : new int[initialCapacity];
+	}
+
+	/**
+	 * Creates a list holding a copy of {@code values}.
+	 */
+	public static IntArrayList of(int... values) {
+		IntArrayList list = new IntArrayList(values.length);
+		System.arraycopy(values, 0, list.elements, 0, values.length);
+		list.size = values.length;
+		return list;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Changes whenever the contents change, including {@link #set}, so an index
+	 * built over the list can tell when it is stale.
+	 */
+	public int version() {
+		return version;
+	}
+
+	private void grow(int minCapacity) {
+		if (minCapacity < 0 || minCapacity > MAX_ARRAY_LENGTH) {
+			throw new OutOfMemoryError("Required list capacity too large: " + Integer.toUnsignedString(minCapacity));
+		}
+		int oldCapacity = elements.length;
+		long newCapacity = Math.max(oldCapacity + (oldCapacity >> 1), DEFAULT_CAPACITY);
+		if (newCapacity < minCapacity) {
+			newCapacity = minCapacity;
+		}
+		elements = Arrays.copyOf(elements, (int) Math.min(newCapacity, MAX_ARRAY_LENGTH));
+	}
+
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > elements.length) {
+			grow(minCapacity);
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private void checkPositionIndex(int index) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	public void add(int value) {
+		if (size == elements.length) {
+			grow(size + 1);
+		}
+		elements[size++] = value;
+		modCount++;
+		version++;
+	}
+
+	/**
+	 * Inserts {@code value} at {@code index}, shifting later elements right.
+	 */
+	public void add(int index, int value) {
+		checkPositionIndex(index);
+		if (size == elements.length) {
+			grow(size + 1);
+		}
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = value;
+		size++;
+		modCount++;
+		version++;
+	}
+
+	public void addAll(IntArrayList other) {
+		addAll(other.elements, 0, other.size);
+	}
+
+	public void addAll(int[] values, int from, int to) {
+		int count = to - from;
+		ensureCapacity(size + count);
+		System.arraycopy(values, from, elements, size, count);
+		size += count;
+		modCount++;
+		version++;
+	}
+
+	public int get(int index) {
+		checkIndex(index);
+		return elements[index];
+	}
+
+	/**
+	 * Replaces the element at {@code index} and returns the old value.
+	 */
+	public int set(int index, int value) {
+		checkIndex(index);
+		int old = elements[index];
+		elements[index] = value;
+		version++;
+		return old;
+	}
+
+	/**
+	 * Removes the element at {@code index} and returns it.
+	 */
+	public int remove(int index) {
+		checkIndex(index);
+		int old = elements[index];
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+		modCount++;
+		version++;
+		return old;
+	}
+
+	/**
+	 * Removes the first occurrence of {@code value}, like
+	 * {@code list.remove(Integer.valueOf(value))}.
+	 *
+	 * @return true if the value was found
+	 */
+	public boolean removeValue(int value) {
+		int index = indexOf(value);
+		if (index < 0) {
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	/**
+	 * Removes every element matching {@code filter}. As in ArrayList, the
+	 * filter is run over every element and the matches marked in a bit set
+	 * before anything moves, so a filter that throws leaves the list as it
+	 * was. One compacting pass then drops the marked elements.
+	 *
+	 * @return number of elements removed
+	 * @throws ConcurrentModificationException if the filter changed the list
+	 */
+	public int removeIf(IntPredicate filter) {
+		int[] es = elements;
+		int end = size;
+		int expected = modCount;
+		int first = 0;
+		while (first < end && !filter.test(es[first])) {
+			first++;
+		}
+		long[] removed = null; // bit i marks index first + i
+		if (first < end) {
+			removed = new long[((end - first - 1) >> 6) + 1];
+			removed[0] = 1;
+			for (int i = first + 1; i < end; i++) {
+				if (filter.test(es[i])) {
+					int bit = i - first;
+					removed[bit >> 6] |= 1L << bit;
+				}
+			}
+		}
+		if (modCount != expected) {
+			throw new ConcurrentModificationException();
+		}
+		if (removed == null) {
+			return 0;
+		}
+		int kept = first;
+		for (int i = first; i < end; i++) {
+			int bit = i - first;
+			if ((removed[bit >> 6] & 1L << bit) == 0) {
+				es[kept++] = es[i];
+			}
+		}
+		size = kept;
+		modCount++;
+		version++;
+		return end - kept;
+	}
+
+	public void clear() {
+		size = 0;
+		modCount++;
+		version++;
+	}
+
+	public int indexOf(int value) {
+		return indexOfRange(value, 0, size);
+	}
+
+	public int lastIndexOf(int value) {
+		return lastIndexOfRange(value, 0, size);
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	private int indexOfRange(int value, int from, int to) {
+		int[] es = elements;
+		for (int i = from; i < to; i++) {
+			if (es[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int lastIndexOfRange(int value, int from, int to) {
+		int[] es = elements;
+		for (int i = to - 1; i >= from; i--) {
+			if (es[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Sorts ascending.
+	 */
+	public void sort() {
+		Arrays.sort(elements, 0, size);
+		modCount++;
+		version++;
+	}
+
+	public void reverse() {
+		reverseRange(elements, 0, size);
+		modCount++;
+		version++;
+	}
+
+	private static void reverseRange(int[] es, int from, int to) {
+		for (int i = from, j = to - 1; i < j; i++, j--) {
+			int temp = es[i];
+			es[i] = es[j];
+			es[j] = temp;
+		}
+	}
+
+	public void swap(int i, int j) {
+		checkIndex(i);
+		checkIndex(j);
+		int temp = elements[i];
+		elements[i] = elements[j];
+		elements[j] = temp;
+		version++;
+	}
+
+	public int[] toArray() {
+		return Arrays.copyOf(elements, size);
+	}
+
+	/**
+	 * Direct read access to the backing array for tight loops. Only the first
+	 * {@link #size()} slots are meaningful, and the array is replaced when the
+	 * list grows, so do not hold on to it across adds. Writes through it are not
+	 * seen by version().
+	 */
+	int[] elements() {
+		return elements;
+	}
+
+	public void forEach(IntConsumer action) {
+		int expected = modCount;
+		for (int i = 0; i < size; i++) {
+			action.accept(elements[i]);
+		}
+		if (modCount != expected) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	public PrimitiveIterator.OfInt iterator() {
+		return new PrimitiveIterator.OfInt() {
+			private int cursor;
+			private final int expected = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return cursor < size;
+			}
+
+			@Override
+			public int nextInt() {
+				if (modCount != expected) {
+					throw new ConcurrentModificationException();
+				}
+				if (cursor >= size) {
+					throw new NoSuchElementException();
+				}
+				return elements[cursor++];
+			}
+		};
+	}
+
+	/**
+	 * Returns a view of {@code [fromIndex, toIndex)} backed by this list, like
+	 * {@link java.util.List#subList}. Changes through the view write through;
+	 * structural changes to this list made outside the view invalidate it.
+	 */
+	public SubList subList(int fromIndex, int toIndex) {
+		if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+			throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+		}
+		return new SubList(fromIndex, toIndex - fromIndex);
+	}
+
+	public class SubList {
+		private final int offset;
+		private int size;
+		private int expectedModCount;
+
+		private SubList(int offset, int size) {
+			this.offset = offset;
+			this.size = size;
+			this.expectedModCount = IntArrayList.this.modCount;
+		}
+
+		private void checkForComodification() {
+			if (IntArrayList.this.modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		private void checkIndex(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+			}
+		}
+
+		public int size() {
+			checkForComodification();
+			return size;
+		}
+
+		public int get(int index) {
+			checkForComodification();
+			checkIndex(index);
+			return elements[offset + index];
+		}
+
+		public int set(int index, int value) {
+			checkForComodification();
+			checkIndex(index);
+			int old = elements[offset + index];
+			elements[offset + index] = value;
+			version++;
+			return old;
+		}
+
+		public void add(int value) {
+			add(size, value);
+		}
+
+		public void add(int index, int value) {
+			checkForComodification();
+			if (index < 0 || index > size) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+			}
+			IntArrayList.this.add(offset + index, value);
+			expectedModCount = IntArrayList.this.modCount;
+			size++;
+		}
+
+		public int remove(int index) {
+			checkForComodification();
+			checkIndex(index);
+			int old = IntArrayList.this.remove(offset + index);
+			expectedModCount = IntArrayList.this.modCount;
+			size--;
+			return old;
+		}
+
+		public int indexOf(int value) {
+			checkForComodification();
+			int index = indexOfRange(value, offset, offset + size);
+			return index < 0 ? -1 : index - offset;
+		}
+
+		public int lastIndexOf(int value) {
+			checkForComodification();
+			int index = lastIndexOfRange(value, offset, offset + size);
+			return index < 0 ? -1 : index - offset;
+		}
+
+		public void sort() {
+			checkForComodification();
+			Arrays.sort(elements, offset, offset + size);
+			version++;
+		}
+
+		public int[] toArray() {
+			checkForComodification();
+			return Arrays.copyOfRange(elements, offset, offset + size);
+		}
+
+		@Override
+		public String toString() {
+			checkForComodification();
+			return IntArrayList.toString(elements, offset, offset + size);
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof IntArrayList)) {
+			return false;
+		}
+		IntArrayList other = (IntArrayList) o;
+		return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < size; i++) {
+			hash = 31 * hash + elements[i];
+		}
+		return hash;
+	}
+
+	/**
+	 * Same format as {@code ArrayList.toString()}: "[1, 2, 3]".
+	 */
+	@Override
+	public String toString() {
+		return toString(elements, 0, size);
+	}
+
+	private static String toString(int[] es, int from, int to) {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = from; i < to; i++) {
+			if (i > from) {
+				sb.append(", ");
+			}
+			sb.append(es[i]);
+		}
+		return sb.append(']').toString();
+	}
+}
@@ -0,0 +1,284 @@
+package com.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares {@link IntArrayList} and {@link OffHeapIntVector} with
+ * {@code ArrayList<Integer>} on retained heap and on the operations the
+ * problems use: append, indexed get, the Problem 4.2 transform with set,
+ * removeIf, sort and the Dutch flag swaps. The off-heap vectors of a round
+ * live in an {@link OffHeapArena} closed at its end.
+ *
+ * Usage: java com.collections.IntArrayListBenchmark [size]
+ *
+ * Direct memory is capped at the heap size unless -XX:MaxDirectMemorySize
+ * says otherwise, so sizes past the heap need that flag too.
+ */
+public class IntArrayListBenchmark {
+
+	private static final int ROUNDS = 5;
+	private static long sink;
+
+	public static void main(String[] args) {
+		int size = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+		int[] values = new int[size];
+		Random random = new Random(42);
+		for (int i = 0; i < size; i++) {
+			values[i] = random.nextInt(1_000_000);
+		}
+
+		System.out.printf(Locale.ROOT, "%d elements%n", size);
+		long[] offHeapBytes = retainedOffHeap(values);
+		System.out.printf(Locale.ROOT, "retained heap   boxed %8.1f MB   primitive %8.1f MB   off-heap %8.1f MB"
+				+ " (+ %.1f MB direct)%n", retainedBoxed(values) / 1e6, retainedPrimitive(values) / 1e6,
+				offHeapBytes[0] / 1e6, offHeapBytes[1] / 1e6);
+
+		for (int round = 0; round < ROUNDS; round++) {
+			boolean report = round == ROUNDS - 1;
+			OffHeapArena arena = new OffHeapArena();
+
+			long start = System.nanoTime();
+			ArrayList<Integer> boxed = new ArrayList<>();
+			for (int value : values) {
+				boxed.add(value);
+			}
+			long boxedAdd = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			IntArrayList primitive = new IntArrayList();
+			for (int value : values) {
+				primitive.add(value);
+			}
+			long primitiveAdd = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			OffHeapIntVector offHeap = arena.newVector();
+			for (int value : values) {
+				offHeap.add(value);
+			}
+			long offHeapAdd = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			long sum = 0;
+			for (int i = 0; i < boxed.size(); i++) {
+				sum += boxed.get(i);
+			}
+			long boxedGet = System.nanoTime() - start;
+			sink += sum;
+
+			start = System.nanoTime();
+			sum = 0;
+			for (int i = 0; i < primitive.size(); i++) {
+				sum += primitive.get(i);
+			}
+			long primitiveGet = System.nanoTime() - start;
+			sink += sum;
+
+			start = System.nanoTime();
+			sum = 0;
+			for (long i = 0; i < offHeap.size(); i++) {
+				sum += offHeap.get(i);
+			}
+			long offHeapGet = System.nanoTime() - start;
+			sink += sum;
+
+			// Problem 4.2: double the evens, increment the odds
+			start = System.nanoTime();
+			for (int i = 0; i < boxed.size(); i++) {
+				if (boxed.get(i) % 2 == 0) {
+					boxed.set(i, 2 * boxed.get(i));
+				} else {
+					boxed.set(i, boxed.get(i) + 1);
+				}
+			}
+			long boxedTransform = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < primitive.size(); i++) {
+				int value = primitive.get(i);
+				primitive.set(i, value % 2 == 0 ? 2 * value : value + 1);
+			}
+			long primitiveTransform = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (long i = 0; i < offHeap.size(); i++) {
+				int value = offHeap.get(i);
+				offHeap.set(i, value % 2 == 0 ? 2 * value : value + 1);
+			}
+			long offHeapTransform = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			boxed.removeIf(num -> num % 3 == 0);
+			long boxedRemoveIf = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			primitive.removeIf(num -> num % 3 == 0);
+			long primitiveRemoveIf = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			offHeap.removeIf(num -> num % 3 == 0);
+			long offHeapRemoveIf = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			Collections.sort(boxed);
+			long boxedSort = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			primitive.sort();
+			long primitiveSort = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			offHeap.sort();
+			long offHeapSort = System.nanoTime() - start;
+
+			if (boxed.size() != primitive.size() || primitive.size() != offHeap.size()) {
+				throw new IllegalStateException("Lists diverged");
+			}
+			for (int i = 0; i < primitive.size(); i += 997) {
+				if (primitive.get(i) != offHeap.get(i)) {
+					throw new IllegalStateException("Lists diverged at " + i);
+				}
+			}
+
+			long boxedFlag = dutchFlagBoxed(values);
+			long primitiveFlag = dutchFlagPrimitive(values);
+			long offHeapFlag = dutchFlagOffHeap(values, arena);
+			arena.close();
+
+			if (report) {
+				row("add", boxedAdd, primitiveAdd, offHeapAdd);
+				row("get", boxedGet, primitiveGet, offHeapGet);
+				row("transform (4.2)", boxedTransform, primitiveTransform, offHeapTransform);
+				row("removeIf", boxedRemoveIf, primitiveRemoveIf, offHeapRemoveIf);
+				row("sort", boxedSort, primitiveSort, offHeapSort);
+				row("dutch flag swaps", boxedFlag, primitiveFlag, offHeapFlag);
+			}
+		}
+		System.out.println("sink " + sink);
+	}
+
+	private static void row(String name, long boxedNanos, long primitiveNanos, long offHeapNanos) {
+		System.out.printf(Locale.ROOT, "%-18s boxed %9.2f ms   primitive %9.2f ms %5.1fx   off-heap %9.2f ms %5.1fx%n",
+				name, boxedNanos / 1e6, primitiveNanos / 1e6, (double) boxedNanos / primitiveNanos,
+				offHeapNanos / 1e6, (double) boxedNanos / offHeapNanos);
+	}
+
+	private static long dutchFlagBoxed(int[] values) {
+		ArrayList<Integer> nums = new ArrayList<>(values.length);
+		for (int value : values) {
+			nums.add(value % 3);
+		}
+		long start = System.nanoTime();
+		int low = 0;
+		int mid = 0;
+		int high = nums.size() - 1;
+		while (mid <= high) {
+			if (nums.get(mid) == 0) {
+				Collections.swap(nums, low++, mid++);
+			} else if (nums.get(mid) == 2) {
+				Collections.swap(nums, mid, high--);
+			} else {
+				mid++;
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += nums.get(nums.size() / 2);
+		return elapsed;
+	}
+
+	private static long dutchFlagPrimitive(int[] values) {
+		IntArrayList nums = new IntArrayList(values.length);
+		for (int value : values) {
+			nums.add(value % 3);
+		}
+		long start = System.nanoTime();
+		int low = 0;
+		int mid = 0;
+		int high = nums.size() - 1;
+		while (mid <= high) {
+			if (nums.get(mid) == 0) {
+				nums.swap(low++, mid++);
+			} else if (nums.get(mid) == 2) {
+				nums.swap(mid, high--);
+			} else {
+				mid++;
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += nums.get(nums.size() / 2);
+		return elapsed;
+	}
+
+	private static long dutchFlagOffHeap(int[] values, OffHeapArena arena) {
+		OffHeapIntVector nums = arena.newVector();
+		for (int value : values) {
+			nums.add(value % 3);
+		}
+		long start = System.nanoTime();
+		long low = 0;
+		long mid = 0;
+		long high = nums.size() - 1;
+		while (mid <= high) {
+			int value = nums.get(mid);
+			if (value == 0) {
+				nums.set(mid++, nums.set(low++, value));
+			} else if (value == 2) {
+				nums.set(mid, nums.set(high--, value));
+			} else {
+				mid++;
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += nums.get(nums.size() / 2);
+		return elapsed;
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static long retainedBoxed(int[] values) {
+		long before = usedHeap();
+		ArrayList<Integer> list = new ArrayList<>();
+		for (int value : values) {
+			list.add(value);
+		}
+		long after = usedHeap();
+		sink += list.size();
+		return after - before;
+	}
+
+	private static long retainedPrimitive(int[] values) {
+		long before = usedHeap();
+		IntArrayList list = new IntArrayList();
+		for (int value : values) {
+			list.add(value);
+		}
+		long after = usedHeap();
+		sink += list.size();
+		return after - before;
+	}
+
+	/**
+	 * Heap retained by an off-heap vector, which is only its chunk table, and
+	 * the direct memory holding the data.
+	 */
+	private static long[] retainedOffHeap(int[] values) {
+		long before = usedHeap();
+		try (OffHeapIntVector vector = new OffHeapIntVector()) {
+			for (int value : values) {
+				vector.add(value);
+			}
+			long after = usedHeap();
+			sink += vector.size();
+			return new long[] { after - before, vector.reservedBytes() };
+		}
+	}
+}
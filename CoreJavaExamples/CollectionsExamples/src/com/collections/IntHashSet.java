@@ -0,0 +1,141 @@
+package com.collections;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Open-addressing hash set of ints, the set counterpart of
+ * {@link IntIntHashMap}: one int array on the same {@link OpenHashTable}
+ * probing and growth. Slots holding 0 are empty and the real value 0 is
+ * tracked with a flag.
+ */
+public final class IntHashSet extends OpenHashTable {
+
+	private int[] keys;
+
+	public IntHashSet() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize number of values the set should hold without resizing
+	 */
+	public IntHashSet(int expectedSize) {
+		super(Integer.SIZE);
+		allocate(capacityFor(expectedSize));
+	}
+
+	/**
+	 * Creates a set holding the distinct values of {@code values[from, to)}.
+	 */
+	public static IntHashSet of(int[] values, int from, int to) {
+		IntHashSet set = new IntHashSet(to - from);
+		for (int i = from; i < to; i++) {
+			set.add(values[i]);
+		}
+		return set;
+	}
+
+	@Override
+	void allocateSlots(int capacity) {
+		keys = new int[capacity];
+	}
+
+	public boolean contains(int value) {
+		if (value == 0) {
+			return hasZeroKey;
+		}
+		return probe(keys, value) >= 0;
+	}
+
+	/**
+	 * @return true if the value was not already present
+	 */
+	public boolean add(int value) {
+		if (value == 0) {
+			boolean added = !hasZeroKey;
+			hasZeroKey = true;
+			return added;
+		}
+		int i = probe(keys, value);
+		if (i >= 0) {
+			return false;
+		}
+		i = -1 - i;
+		keys[i] = value;
+		added(i);
+		return true;
+	}
+
+	/**
+	 * @return true if the value was present
+	 */
+	public boolean remove(int value) {
+		if (value == 0) {
+			boolean removed = hasZeroKey;
+			hasZeroKey = false;
+			return removed;
+		}
+		int i = probe(keys, value);
+		if (i < 0) {
+			return false;
+		}
+		removeAt(keys, i);
+		return true;
+	}
+
+	@Override
+	void move(int from, int to) {
+		keys[to] = keys[from];
+	}
+
+	@Override
+	void clearSlot(int slot) {
+		keys[slot] = 0;
+	}
+
+	@Override
+	void rehash(int capacity) {
+		int[] oldKeys = keys;
+		allocate(capacity);
+		for (int k : oldKeys) {
+			if (k != 0) {
+				keys[freeSlot(keys, k)] = k;
+			}
+		}
+	}
+
+	public void clear() {
+		Arrays.fill(keys, 0);
+		assigned = 0;
+		hasZeroKey = false;
+	}
+
+	/**
+	 * Visits every value in table order without allocating.
+	 */
+	public void forEach(IntConsumer action) {
+		if (hasZeroKey) {
+			action.accept(0);
+		}
+		for (int k : keys) {
+			if (k != 0) {
+				action.accept(k);
+			}
+		}
+	}
+
+	public int[] toArray() {
+		int[] values = new int[size()];
+		int n = 0;
+		if (hasZeroKey) {
+			n++; // values[0] is already 0
+		}
+		for (int k : keys) {
+			if (k != 0) {
+				values[n++] = k;
+			}
+		}
+		return values;
+	}
+}
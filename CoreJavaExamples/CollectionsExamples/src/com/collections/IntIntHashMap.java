@@ -0,0 +1,189 @@
+package com.collections;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from int to int, for counting frequencies without
+ * boxing.
+ *
+ * {@code map.put(num, map.getOrDefault(num, 0) + 1)} on a
+ * {@code HashMap<Integer, Integer>} boxes the key and the count and allocates
+ * a node per new key. Here keys and values sit in two parallel int arrays and
+ * collisions are resolved by linear probing, so a lookup usually touches one
+ * cache line and {@link #increment(int)} allocates nothing.
+ *
+ * Slots whose key is 0 are empty; the real key 0 is stored on the side.
+ * Removal shifts the following cluster back instead of leaving tombstones.
+ * Hashing, probing and growth are those of {@link OpenHashTable}.
+ */
+public final class IntIntHashMap extends OpenHashTable {
+
+	/**
+	 * Receives one entry during {@link #forEach(IntIntConsumer)}.
+	 */
+	@FunctionalInterface
+	public interface IntIntConsumer {
+		void accept(int key, int value);
+	}
+
+	private int[] keys;
+	private int[] values;
+	private int zeroValue;
+
+	public IntIntHashMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize number of keys the map should hold without resizing
+	 */
+	public IntIntHashMap(int expectedSize) {
+		super(Integer.SIZE);
+		allocate(capacityFor(expectedSize));
+	}
+
+	@Override
+	void allocateSlots(int capacity) {
+		keys = new int[capacity];
+		values = new int[capacity];
+	}
+
+	public boolean containsKey(int key) {
+		if (key == 0) {
+			return hasZeroKey;
+		}
+		return probe(keys, key) >= 0;
+	}
+
+	public int getOrDefault(int key, int defaultValue) {
+		if (key == 0) {
+			return hasZeroKey ? zeroValue : defaultValue;
+		}
+		int i = probe(keys, key);
+		return i >= 0 ? values[i] : defaultValue;
+	}
+
+	public int get(int key) {
+		return getOrDefault(key, 0);
+	}
+
+	public void put(int key, int value) {
+		addTo(key, value, true);
+	}
+
+	/**
+	 * Adds {@code delta} to the value of {@code key}, starting from 0 for a new
+	 * key, and returns the new value.
+	 */
+	public int merge(int key, int delta) {
+		return addTo(key, delta, false);
+	}
+
+	/**
+	 * Adds one to the count of {@code key} and returns the new count.
+	 */
+	public int increment(int key) {
+		return addTo(key, 1, false);
+	}
+
+	private int addTo(int key, int value, boolean replace) {
+		if (key == 0) {
+			zeroValue = hasZeroKey && !replace ? zeroValue + value : value;
+			hasZeroKey = true;
+			return zeroValue;
+		}
+		int i = probe(keys, key);
+		if (i >= 0) {
+			values[i] = replace ? value : values[i] + value;
+			return values[i];
+		}
+		i = -1 - i;
+		keys[i] = key;
+		values[i] = value;
+		added(i);
+		return value;
+	}
+
+	/**
+	 * Removes {@code key} and returns its value, or 0 if it was absent.
+	 */
+	public int remove(int key) {
+		if (key == 0) {
+			int old = hasZeroKey ? zeroValue : 0;
+			hasZeroKey = false;
+			zeroValue = 0;
+			return old;
+		}
+		int i = probe(keys, key);
+		if (i < 0) {
+			return 0;
+		}
+		int old = values[i];
+		removeAt(keys, i);
+		return old;
+	}
+
+	@Override
+	void move(int from, int to) {
+		keys[to] = keys[from];
+		values[to] = values[from];
+	}
+
+	@Override
+	void clearSlot(int slot) {
+		keys[slot] = 0;
+		values[slot] = 0;
+	}
+
+	@Override
+	void rehash(int capacity) {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(capacity);
+		for (int j = 0; j < oldKeys.length; j++) {
+			int k = oldKeys[j];
+			if (k != 0) {
+				int i = freeSlot(keys, k);
+				keys[i] = k;
+				values[i] = oldValues[j];
+			}
+		}
+	}
+
+	public void clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, 0);
+		assigned = 0;
+		hasZeroKey = false;
+		zeroValue = 0;
+	}
+
+	/**
+	 * Visits every entry in table order. Walks the arrays directly, so no
+	 * iterator or entry objects are created.
+	 */
+	public void forEach(IntIntConsumer action) {
+		if (hasZeroKey) {
+			action.accept(0, zeroValue);
+		}
+		int[] ks = keys;
+		int[] vs = values;
+		for (int i = 0; i < ks.length; i++) {
+			if (ks[i] != 0) {
+				action.accept(ks[i], vs[i]);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("{");
+		forEach((key, value) -> {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(key).append('=').append(value);
+		});
+		return sb.append('}').toString();
+	}
+}
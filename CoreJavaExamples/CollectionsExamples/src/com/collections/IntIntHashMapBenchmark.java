@@ -0,0 +1,80 @@
+package com.collections;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Frequency counting throughput of {@link IntIntHashMap} against
+ * {@code HashMap<Integer, Integer>} with {@code getOrDefault(num, 0) + 1}, the
+ * pattern the majority problem used.
+ *
+ * Each round counts every input value, then walks the map summing the counts
+ * (which must equal the input size).
+ *
+ * Usage: java -Xmx4g com.collections.IntIntHashMapBenchmark [size] [distinctKeys]
+ *
+ * The defaults are 100M values over 1M distinct keys; the input alone takes
+ * 400 MB.
+ */
+public class IntIntHashMapBenchmark {
+
+	private static final int ROUNDS = 3;
+	private static long sink;
+
+	public static void main(String[] args) {
+		int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+		int distinctKeys = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+		int[] values = new int[size];
+		Random random = new Random(42);
+		for (int i = 0; i < size; i++) {
+			values[i] = random.nextInt(distinctKeys) - distinctKeys / 2;
+		}
+
+		System.out.printf(Locale.ROOT, "%d values, %d distinct keys%n", size, distinctKeys);
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			HashMap<Integer, Integer> boxed = new HashMap<>();
+			for (int value : values) {
+				boxed.put(value, boxed.getOrDefault(value, 0) + 1);
+			}
+			long boxedCount = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			long boxedTotal = 0;
+			for (Map.Entry<Integer, Integer> entry : boxed.entrySet()) {
+				boxedTotal += entry.getValue();
+			}
+			long boxedIterate = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			IntIntHashMap primitive = new IntIntHashMap();
+			for (int value : values) {
+				primitive.increment(value);
+			}
+			long primitiveCount = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			long[] primitiveTotal = new long[1];
+			primitive.forEach((key, count) -> primitiveTotal[0] += count);
+			long primitiveIterate = System.nanoTime() - start;
+
+			if (boxedTotal != size || primitiveTotal[0] != size || boxed.size() != primitive.size()) {
+				throw new IllegalStateException("Counts diverged");
+			}
+			sink += boxed.size() + primitive.get(values[0]);
+
+			System.out.printf(Locale.ROOT, "round %d%n", round + 1);
+			row("count", size, boxedCount, primitiveCount);
+			row("iterate", boxed.size(), boxedIterate, primitiveIterate);
+		}
+		System.out.println("sink " + sink);
+	}
+
+	private static void row(String name, int operations, long boxedNanos, long primitiveNanos) {
+		System.out.printf(Locale.ROOT, "  %-8s boxed %9.2f ms %8.1f Mops/s   primitive %9.2f ms %8.1f Mops/s   %5.1fx%n",
+				name, boxedNanos / 1e6, operations * 1e3 / boxedNanos, primitiveNanos / 1e6,
+				operations * 1e3 / primitiveNanos, (double) boxedNanos / primitiveNanos);
+	}
+}
@@ -0,0 +1,320 @@
+package com.collections;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Dense rows x cols matrix of ints in one row-major array, in place of
+ * {@code ArrayList<ArrayList<Integer>>}.
+ *
+ * The nested lists hold an Integer object per cell and a list object per row,
+ * so every access chases two pointers and a big matrix is mostly headers for
+ * the GC to trace. Here cell (i, j) is {@code data()[i * cols + j]}, the whole
+ * matrix is one allocation, and scans run at memory bandwidth.
+ *
+ * {@link #row(int)} and {@link #column(int)} are {@link Slice} views that read
+ * and write through to the matrix; a row steps by 1 through the array and a
+ * column by cols. The flat-array algorithms work on it directly:
+ * {@link #rotate(int)} and {@link #transpose()} go through
+ * {@link MatrixRotation}, and {@link #spiral()} is a {@link SpiralCursor}.
+ */
+public class IntMatrix {
+
+	private final int rows;
+	private final int cols;
+	private final int[] data;
+
+	/**
+	 * Zero-filled rows x cols matrix.
+	 */
+	public IntMatrix(int rows, int cols) {
+		this(rows, cols, new int[checkedSize(rows, cols)]);
+	}
+
+	private IntMatrix(int rows, int cols, int[] data) {
+		this.rows = rows;
+		this.cols = cols;
+		this.data = data;
+	}
+
+	private static int checkedSize(int rows, int cols) {
+		if (rows < 0 || cols < 0) {
+			throw new IllegalArgumentException("Invalid shape: " + rows + " x " + cols);
+		}
+		long size = (long) rows * cols;
+		if (size > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("A " + rows + " x " + cols + " matrix does not fit in an int[]");
+		}
+		return (int) size;
+	}
+
+	/**
+	 * Matrix backed by {@code data}, which must hold exactly rows * cols values
+	 * in row-major order. Nothing is copied.
+	 */
+	public static IntMatrix wrap(int[] data, int rows, int cols) {
+		if (checkedSize(rows, cols) != data.length) {
+			throw new IllegalArgumentException(
+					"Array of length " + data.length + " does not hold a " + rows + " x " + cols + " matrix");
+		}
+		return new IntMatrix(rows, cols, data);
+	}
+
+	/**
+	 * Reads rows * cols values, row by row, straight into a new matrix.
+	 */
+	public static IntMatrix read(FastReader sc, int rows, int cols) {
+		IntMatrix matrix = new IntMatrix(rows, cols);
+		sc.nextInts(matrix.data, 0, matrix.data.length);
+		return matrix;
+	}
+
+	public int rows() {
+		return rows;
+	}
+
+	public int cols() {
+		return cols;
+	}
+
+	public boolean isSquare() {
+		return rows == cols;
+	}
+
+	/**
+	 * The backing array, row-major. Changes write through.
+	 */
+	public int[] data() {
+		return data;
+	}
+
+	private int index(int i, int j) {
+		if (i < 0 || i >= rows || j < 0 || j >= cols) {
+			throw new IndexOutOfBoundsException("Cell: (" + i + ", " + j + "), Size: " + rows + " x " + cols);
+		}
+		return i * cols + j;
+	}
+
+	public int get(int i, int j) {
+		return data[index(i, j)];
+	}
+
+	public void set(int i, int j, int value) {
+		data[index(i, j)] = value;
+	}
+
+	public void fill(int value) {
+		Arrays.fill(data, value);
+	}
+
+	public Slice row(int i) {
+		if (i < 0 || i >= rows) {
+			throw new IndexOutOfBoundsException("Row: " + i + ", Rows: " + rows);
+		}
+		return new Slice(i * cols, 1, cols);
+	}
+
+	public Slice column(int j) {
+		if (j < 0 || j >= cols) {
+			throw new IndexOutOfBoundsException("Column: " + j + ", Columns: " + cols);
+		}
+		return new Slice(j, cols, rows);
+	}
+
+	/**
+	 * Visits every cell in row-major order, the order of the backing array.
+	 */
+	public void forEach(IntConsumer action) {
+		for (int value : data) {
+			action.accept(value);
+		}
+	}
+
+	/**
+	 * This matrix turned by {@code quarterTurns} quarter turns, clockwise when
+	 * positive. Square matrices and half turns are rotated in place and this
+	 * matrix is returned; other shapes change shape, so the result is a new
+	 * cols x rows matrix and this one is left as it was.
+	 */
+	public IntMatrix rotate(int quarterTurns) {
+		int turns = Math.floorMod(quarterTurns, 4);
+		if (turns == 2) {
+			MatrixRotation.rotate180(data);
+			return this;
+		}
+		if (isSquare()) {
+			MatrixRotation.rotate(data, rows, turns);
+			return this;
+		}
+		if (turns == 0) {
+			return this;
+		}
+		return new IntMatrix(cols, rows, MatrixRotation.rotate(data, rows, cols, turns, new int[data.length]));
+	}
+
+	/**
+	 * This matrix transposed: in place if it is square, otherwise as a new cols
+	 * x rows matrix.
+	 */
+	public IntMatrix transpose() {
+		if (isSquare()) {
+			MatrixRotation.transpose(data, rows);
+			return this;
+		}
+		return new IntMatrix(cols, rows, MatrixRotation.transpose(data, rows, cols, new int[data.length]));
+	}
+
+	/**
+	 * Cursor over the cells in spiral order, from the top left corner
+	 * clockwise.
+	 */
+	public SpiralCursor spiral() {
+		return new SpiralCursor(data, rows, cols);
+	}
+
+	/**
+	 * Writes the matrix one row per line, cells separated by single spaces.
+	 */
+	public void print(FastWriter out) {
+		for (int i = 0; i < rows; i++) {
+			out.printAll(data, i * cols, (i + 1) * cols).println();
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof IntMatrix)) {
+			return false;
+		}
+		IntMatrix other = (IntMatrix) o;
+		return rows == other.rows && cols == other.cols && Arrays.equals(data, other.data);
+	}
+
+	@Override
+	public int hashCode() {
+		return (31 * rows + cols) * 31 + Arrays.hashCode(data);
+	}
+
+	/**
+	 * Same format as the nested lists print in: [[1, 2], [3, 4]].
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < rows; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(row(i));
+		}
+		return sb.append(']').toString();
+	}
+
+	/**
+	 * A row or column of the matrix: {@code size} cells of the backing array,
+	 * {@code stride} apart from {@code offset}. Reads and writes go straight to
+	 * the matrix.
+	 */
+	public final class Slice {
+		private final int offset;
+		private final int stride;
+		private final int size;
+
+		Slice(int offset, int stride, int size) {
+			this.offset = offset;
+			this.stride = stride;
+			this.size = size;
+		}
+
+		public int size() {
+			return size;
+		}
+
+		private int index(int k) {
+			if (k < 0 || k >= size) {
+				throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + size);
+			}
+			return offset + k * stride;
+		}
+
+		public int get(int k) {
+			return data[index(k)];
+		}
+
+		public void set(int k, int value) {
+			data[index(k)] = value;
+		}
+
+		public void fill(int value) {
+			for (int k = 0, i = offset; k < size; k++, i += stride) {
+				data[i] = value;
+			}
+		}
+
+		public void forEach(IntConsumer action) {
+			for (int k = 0, i = offset; k < size; k++, i += stride) {
+				action.accept(data[i]);
+			}
+		}
+
+		public long sum() {
+			long sum = 0;
+			for (int k = 0, i = offset; k < size; k++, i += stride) {
+				sum += data[i];
+			}
+			return sum;
+		}
+
+		/**
+		 * Copies the cells into {@code dst} starting at {@code from}: one array
+		 * copy for a row, a strided gather for a column.
+		 */
+		public void copyTo(int[] dst, int from) {
+			if (stride == 1) {
+				System.arraycopy(data, offset, dst, from, size);
+				return;
+			}
+			if (from < 0 || from > dst.length - size) {
+				throw new IndexOutOfBoundsException("Range [" + from + ", " + from + " + " + size
+						+ ") out of bounds for length " + dst.length);
+			}
+			for (int k = 0, i = offset; k < size; k++, i += stride) {
+				dst[from + k] = data[i];
+			}
+		}
+
+		public int[] toArray() {
+			int[] values = new int[size];
+			copyTo(values, 0);
+			return values;
+		}
+
+		/**
+		 * Writes the cells separated by single spaces, without a trailing
+		 * newline.
+		 */
+		public void print(FastWriter out) {
+			for (int k = 0, i = offset; k < size; k++, i += stride) {
+				if (k > 0) {
+					out.print(' ');
+				}
+				out.print(data[i]);
+			}
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder("[");
+			for (int k = 0, i = offset; k < size; k++, i += stride) {
+				if (k > 0) {
+					sb.append(", ");
+				}
+				sb.append(data[i]);
+			}
+			return sb.append(']').toString();
+		}
+	}
+}
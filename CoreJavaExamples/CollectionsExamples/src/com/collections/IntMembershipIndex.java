@@ -0,0 +1,78 @@
+package com.collections;
+
+/**
+ * Hash index answering "does the list contain x" in O(1), for Problem 6.1.
+ *
+ * {@link IntArrayList#contains(int)} scans the list, so Q queries over N
+ * elements cost O(N * Q). The index hashes the distinct values into an
+ * {@link IntHashSet} once, in O(N), and every query is then a single probe.
+ *
+ * The index remembers the list's {@link IntArrayList#version()} when it was
+ * built. Any change to the list, including set and changes through a subList
+ * view, makes it stale, and the next query rebuilds it before answering.
+ */
+public class IntMembershipIndex {
+
+	private final IntArrayList list;
+	private IntHashSet values;
+	private int builtVersion;
+	private int rebuilds;
+
+	public IntMembershipIndex(IntArrayList list) {
+		this.list = list;
+		rebuild();
+	}
+
+	private void rebuild() {
+		values = IntHashSet.of(list.elements(), 0, list.size());
+		builtVersion = list.version();
+		rebuilds++;
+	}
+
+	private IntHashSet current() {
+		if (builtVersion != list.version()) {
+			rebuild();
+		}
+		return values;
+	}
+
+	public boolean contains(int value) {
+		return current().contains(value);
+	}
+
+	/**
+	 * Answers every query in {@code queries}. The staleness check is done once
+	 * for the whole batch.
+	 */
+	public boolean[] containsAll(int[] queries) {
+		boolean[] found = new boolean[queries.length];
+		containsAll(queries, 0, queries.length, found);
+		return found;
+	}
+
+	/**
+	 * Writes the answer for {@code queries[i]} to {@code found[i]} for every i in
+	 * [from, to).
+	 */
+	public void containsAll(int[] queries, int from, int to, boolean[] found) {
+		IntHashSet set = current();
+		for (int i = from; i < to; i++) {
+			found[i] = set.contains(queries[i]);
+		}
+	}
+
+	/**
+	 * Number of distinct values currently in the list; rebuilds the index first
+	 * if the list has changed since the last build.
+	 */
+	public int distinctCount() {
+		return current().size();
+	}
+
+	/**
+	 * How many times the index has been built, including the first build.
+	 */
+	public int rebuilds() {
+		return rebuilds;
+	}
+}
@@ -0,0 +1,178 @@
+package com.collections;
+
+import java.util.Arrays;
+
+/**
+ * Sorted (value, position) index over a static int sequence, answering the
+ * first and last position of a value in O(log n), for Problem 6.2.
+ *
+ * indexOf and lastIndexOf scan the list, O(n) per query. Here the pairs are
+ * sorted by value, then by position, so all occurrences of a value form one
+ * run: its lower bound holds the first position and the slot before its upper
+ * bound holds the last.
+ *
+ * For batches the sorted values are also stored in Eytzinger (BFS) order: the
+ * root at 1 and the children of k at 2k and 2k + 1. A search walks down that
+ * array, so the first levels of every search share the same few cache lines,
+ * and the loop has no data-dependent branch.
+ *
+ * The index is a snapshot. It does not see later changes to the source list.
+ */
+public class IntPositionIndex {
+
+	private final int size;
+	private final int[] values;    // sorted ascending
+	private final int[] positions; // positions[i] is where values[i] came from
+	private final int[] eytzinger; // values in BFS order, 1-based
+	private final int[] rank;      // rank[k] is the sorted index of eytzinger[k]
+
+	public IntPositionIndex(IntArrayList list) {
+		this(list.elements(), 0, list.size());
+	}
+
+	/**
+	 * Indexes {@code data[from, to)}; positions are reported relative to
+	 * {@code from}.
+	 */
+	public IntPositionIndex(int[] data, int from, int to) {
+		size = to - from;
+		// value in the high half, position in the low half: sorting the longs
+		// sorts by value, then position
+		long[] pairs = new long[size];
+		for (int i = 0; i < size; i++) {
+			pairs[i] = ((long) data[from + i] << 32) | i;
+		}
+		Arrays.sort(pairs);
+
+		values = new int[size];
+		positions = new int[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = (int) (pairs[i] >> 32);
+			positions[i] = (int) pairs[i];
+		}
+
+		eytzinger = new int[size + 1];
+		rank = new int[size + 1];
+		fillEytzinger(0, 1);
+	}
+
+	/**
+	 * In-order walk of the implicit tree, handing out sorted values in order.
+	 */
+	private int fillEytzinger(int next, int k) {
+		if (k <= size) {
+			next = fillEytzinger(next, 2 * k);
+			eytzinger[k] = values[next];
+			rank[k] = next++;
+			next = fillEytzinger(next, 2 * k + 1);
+		}
+		return next;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Position of the first occurrence of {@code value}, or -1.
+	 */
+	public int firstIndexOf(int value) {
+		int i = lowerBound(value);
+		return i < size && values[i] == value ? positions[i] : -1;
+	}
+
+	/**
+	 * Position of the last occurrence of {@code value}, or -1.
+	 */
+	public int lastIndexOf(int value) {
+		int i = upperBound(value) - 1;
+		return i >= 0 && values[i] == value ? positions[i] : -1;
+	}
+
+	public int count(int value) {
+		return upperBound(value) - lowerBound(value);
+	}
+
+	/**
+	 * First sorted index whose value is {@code >= value}.
+	 */
+	private int lowerBound(int value) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (values[mid] < value) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * First sorted index whose value is {@code > value}.
+	 */
+	private int upperBound(int value) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (values[mid] <= value) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Lower bound through the Eytzinger array. Going right appends a 1 bit to k
+	 * and going left a 0 bit; the answer is the last node where the search went
+	 * left, found by dropping the trailing 1 bits and one more.
+	 */
+	private int eytzingerLowerBound(int value) {
+		int k = 1;
+		while (k <= size) {
+			k = 2 * k + (eytzinger[k] < value ? 1 : 0);
+		}
+		k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+		return k == 0 ? size : rank[k];
+	}
+
+	private int eytzingerUpperBound(int value) {
+		int k = 1;
+		while (k <= size) {
+			k = 2 * k + (eytzinger[k] <= value ? 1 : 0);
+		}
+		k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+		return k == 0 ? size : rank[k];
+	}
+
+	/**
+	 * First position of every query value, -1 where absent, searched through the
+	 * Eytzinger layout.
+	 */
+	public int[] firstIndexOfAll(int[] queries) {
+		int[] result = new int[queries.length];
+		for (int q = 0; q < queries.length; q++) {
+			int i = eytzingerLowerBound(queries[q]);
+			result[q] = i < size && values[i] == queries[q] ? positions[i] : -1;
+		}
+		return result;
+	}
+
+	/**
+	 * Last position of every query value, -1 where absent, searched through the
+	 * Eytzinger layout.
+	 */
+	public int[] lastIndexOfAll(int[] queries) {
+		int[] result = new int[queries.length];
+		for (int q = 0; q < queries.length; q++) {
+			int i = eytzingerUpperBound(queries[q]) - 1;
+			result[q] = i >= 0 && values[i] == queries[q] ? positions[i] : -1;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,274 @@
+package com.collections;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Many int lists of different lengths in compressed sparse row (CSR) form, in
+ * place of {@code List<List<Integer>>}: every value in one array, row after
+ * row, and one offsets array where row r occupies
+ * {@code values[offsets[r], offsets[r + 1])}.
+ *
+ * A row costs one int of offset instead of an ArrayList, its backing array
+ * and a boxed Integer per value, so millions of short lists stay a few bytes
+ * each. Cell (r, c) is {@code values[offsets[r] + c]}: two array reads.
+ *
+ * Rows are built in order. {@link #addRow()} starts an empty row and
+ * {@link #add(int)} appends to the last one; earlier rows are fixed.
+ *
+ * Lookups that may be out of range are answered with a status instead of an
+ * exception: {@link #status(int, int)} says whether the row and the column
+ * exist, and {@link #cellIndex(int, int)} gives where the cell sits in
+ * {@link #values()}, or -1. Only {@link #get(int, int)} throws, like List.get.
+ */
+public class JaggedIntLists {
+
+	/** The row and column both exist. */
+	public static final int IN_RANGE = 0;
+	/** There is no such row. */
+	public static final int NO_ROW = 1;
+	/** The row exists but is shorter than the column. */
+	public static final int NO_COLUMN = 2;
+
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+	private int[] offsets; // offsets[r] is where row r starts; offsets[rows] is the end
+	private int[] values;
+	private int rows;
+
+	public JaggedIntLists() {
+		this(DEFAULT_CAPACITY, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param expectedRows   number of rows to hold without growing
+	 * @param expectedValues number of values, over all rows, to hold without
+	 *                       growing
+	 */
+	public JaggedIntLists(int expectedRows, int expectedValues) {
+		if (expectedRows < 0 || expectedValues < 0) {
+			throw new IllegalArgumentException(
+					"Capacities must not be negative: " + expectedRows + ", " + expectedValues);
+		}
+		offsets = new int[expectedRows + 1];
+		values = new int[expectedValues];
+	}
+
+	/**
+	 * Starts a new, empty last row and returns its index.
+	 */
+	public int addRow() {
+		if (rows + 2 > offsets.length) {
+			offsets = Arrays.copyOf(offsets, grow(offsets.length, rows + 2));
+		}
+		offsets[rows + 1] = offsets[rows];
+		return rows++;
+	}
+
+	/**
+	 * Appends {@code value} to the last row.
+	 *
+	 * @throws IllegalStateException if no row has been started
+	 */
+	public void add(int value) {
+		if (rows == 0) {
+			throw new IllegalStateException("No row to add to; call addRow() first");
+		}
+		int end = offsets[rows];
+		if (end == values.length) {
+			values = Arrays.copyOf(values, grow(values.length, end + 1));
+		}
+		values[end] = value;
+		offsets[rows] = end + 1;
+	}
+
+	/**
+	 * Starts a new row holding {@code src[from, to)} and returns its index.
+	 */
+	public int addRow(int[] src, int from, int to) {
+		if (from < 0 || to > src.length || from > to) {
+			throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + src.length);
+		}
+		int row = addRow();
+		int end = offsets[rows];
+		int length = to - from;
+		if (end + length > values.length) {
+			values = Arrays.copyOf(values, grow(values.length, (long) end + length));
+		}
+		System.arraycopy(src, from, values, end, length);
+		offsets[rows] = end + length;
+		return row;
+	}
+
+	/**
+	 * Starts a new row and reads {@code length} values from {@code sc} straight
+	 * into it. Returns the row's index.
+	 */
+	public int readRow(FastReader sc, int length) {
+		if (length < 0) {
+			throw new IllegalArgumentException("length must not be negative: " + length);
+		}
+		int row = addRow();
+		int end = offsets[rows];
+		if (end + length > values.length) {
+			values = Arrays.copyOf(values, grow(values.length, (long) end + length));
+		}
+		sc.nextInts(values, end, end + length);
+		offsets[rows] = end + length;
+		return row;
+	}
+
+	private static int grow(int current, long needed) {
+		if (needed > MAX_ARRAY_LENGTH) {
+			throw new IllegalStateException("JaggedIntLists is full");
+		}
+		return (int) Math.min(MAX_ARRAY_LENGTH, Math.max(needed, Math.max(DEFAULT_CAPACITY, current + (current >> 1))));
+	}
+
+	public int rows() {
+		return rows;
+	}
+
+	/**
+	 * Number of values over all rows.
+	 */
+	public int valueCount() {
+		return offsets[rows];
+	}
+
+	/**
+	 * Length of row {@code row}.
+	 */
+	public int rowLength(int row) {
+		checkRow(row);
+		return offsets[row + 1] - offsets[row];
+	}
+
+	/**
+	 * {@link #IN_RANGE}, {@link #NO_ROW} or {@link #NO_COLUMN} for cell (row,
+	 * col), both zero-based.
+	 */
+	public int status(int row, int col) {
+		if (row < 0 || row >= rows) {
+			return NO_ROW;
+		}
+		if (col < 0 || col >= offsets[row + 1] - offsets[row]) {
+			return NO_COLUMN;
+		}
+		return IN_RANGE;
+	}
+
+	public boolean contains(int row, int col) {
+		return status(row, col) == IN_RANGE;
+	}
+
+	/**
+	 * Position of cell (row, col) in {@link #values()}, or -1 if there is no
+	 * such cell: one bounds check, then the value is a single array read.
+	 */
+	public int cellIndex(int row, int col) {
+		if (row < 0 || row >= rows) {
+			return -1;
+		}
+		int start = offsets[row];
+		return col >= 0 && col < offsets[row + 1] - start ? start + col : -1;
+	}
+
+	/**
+	 * Value at (row, col), or {@code defaultValue} if there is no such cell.
+	 */
+	public int getOrDefault(int row, int col, int defaultValue) {
+		int i = cellIndex(row, col);
+		return i >= 0 ? values[i] : defaultValue;
+	}
+
+	public int get(int row, int col) {
+		switch (status(row, col)) {
+		case NO_ROW:
+			throw new IndexOutOfBoundsException("Row: " + row + ", Rows: " + rows);
+		case NO_COLUMN:
+			throw new IndexOutOfBoundsException("Index: " + col + ", Size: " + (offsets[row + 1] - offsets[row]));
+		default:
+			return values[offsets[row] + col];
+		}
+	}
+
+	public void set(int row, int col, int value) {
+		get(row, col); // bounds check
+		values[offsets[row] + col] = value;
+	}
+
+	/**
+	 * Copies row {@code row} into {@code dst} starting at {@code from}.
+	 */
+	public void copyRow(int row, int[] dst, int from) {
+		checkRow(row);
+		System.arraycopy(values, offsets[row], dst, from, offsets[row + 1] - offsets[row]);
+	}
+
+	public int[] toArray(int row) {
+		int[] copy = new int[rowLength(row)];
+		copyRow(row, copy, 0);
+		return copy;
+	}
+
+	public void forEachInRow(int row, IntConsumer action) {
+		checkRow(row);
+		for (int i = offsets[row], end = offsets[row + 1]; i < end; i++) {
+			action.accept(values[i]);
+		}
+	}
+
+	/**
+	 * Backing values array: row r is {@code [rowStart(r), rowStart(r + 1))}.
+	 * Becomes stale when a later add grows it.
+	 */
+	public int[] values() {
+		return values;
+	}
+
+	/**
+	 * Index in {@link #values()} where row {@code row} starts; {@code rows()}
+	 * gives the end of the last row.
+	 */
+	public int rowStart(int row) {
+		if (row < 0 || row > rows) {
+			throw new IndexOutOfBoundsException("Row: " + row + ", Rows: " + rows);
+		}
+		return offsets[row];
+	}
+
+	public void clear() {
+		rows = 0;
+		offsets[0] = 0;
+	}
+
+	private void checkRow(int row) {
+		if (row < 0 || row >= rows) {
+			throw new IndexOutOfBoundsException("Row: " + row + ", Rows: " + rows);
+		}
+	}
+
+	/**
+	 * Same format as the nested lists print in: [[1, 2], [], [3]].
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+		for (int r = 0; r < rows; r++) {
+			if (r > 0) {
+				sb.append(", ");
+			}
+			sb.append('[');
+			for (int i = offsets[r]; i < offsets[r + 1]; i++) {
+				if (i > offsets[r]) {
+					sb.append(", ");
+				}
+				sb.append(values[i]);
+			}
+			sb.append(']');
+		}
+		return sb.append(']').toString();
+	}
+}
@@ -0,0 +1,139 @@
+package com.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares {@code List<List<Integer>>} with {@link JaggedIntLists} on the
+ * Problem 3.3 workload: build many short lists, then answer 1-based (x, y)
+ * queries, a fifth of them out of range. The nested lists answer the way the
+ * original solution does, with get inside try/catch; the CSR store looks up
+ * the cell's index, -1 for a miss. Heap growth after building is reported as well.
+ *
+ * Usage: java com.collections.JaggedListsBenchmark [lists] [queries]
+ */
+public class JaggedListsBenchmark {
+
+	private static final int ROUNDS = 5;
+	private static final int MAX_LENGTH = 8;
+	private static long sink;
+
+	public static void main(String[] args) {
+		int lists = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+		int queries = args.length > 1 ? Integer.parseInt(args[1]) : 10_000_000;
+		Random random = new Random(42);
+		int[] lengths = new int[lists];
+		long total = 0;
+		for (int i = 0; i < lists; i++) {
+			lengths[i] = random.nextInt(MAX_LENGTH + 1);
+			total += lengths[i];
+		}
+		int[] values = new int[Math.toIntExact(total)];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextInt();
+		}
+		int[] xs = new int[queries];
+		int[] ys = new int[queries];
+		for (int i = 0; i < queries; i++) {
+			xs[i] = 1 + random.nextInt(lists);
+			// one in five queries asks past the end of its list
+			ys[i] = random.nextInt(5) == 0 ? lengths[xs[i] - 1] + 1 : 1 + random.nextInt(Math.max(1, lengths[xs[i] - 1]));
+		}
+
+		System.out.printf(Locale.ROOT, "%d lists, %d values, %d queries%n", lists, total, queries);
+		for (int round = 0; round < ROUNDS; round++) {
+			long before = usedHeap();
+			long start = System.nanoTime();
+			List<List<Integer>> nested = buildNested(lengths, values);
+			long nestedBuild = System.nanoTime() - start;
+			long nestedBytes = usedHeap() - before;
+			start = System.nanoTime();
+			long nestedChecksum = queryNested(nested, xs, ys);
+			long nestedQuery = System.nanoTime() - start;
+			nested = null;
+
+			before = usedHeap();
+			start = System.nanoTime();
+			JaggedIntLists jagged = buildJagged(lengths, values);
+			long jaggedBuild = System.nanoTime() - start;
+			long jaggedBytes = usedHeap() - before;
+			start = System.nanoTime();
+			long jaggedChecksum = queryJagged(jagged, xs, ys);
+			long jaggedQuery = System.nanoTime() - start;
+
+			if (nestedChecksum != jaggedChecksum) {
+				throw new IllegalStateException("Checksums differ: " + nestedChecksum + " vs " + jaggedChecksum);
+			}
+			sink += jaggedChecksum;
+			if (round == ROUNDS - 1) {
+				row("nested", nestedBuild, nestedQuery, nestedBytes, lists, queries);
+				row("jagged", jaggedBuild, jaggedQuery, jaggedBytes, lists, queries);
+			}
+		}
+		System.out.println("sink " + sink);
+	}
+
+	private static void row(String name, long build, long query, long bytes, int lists, int queries) {
+		System.out.printf(Locale.ROOT, "%-7s build %8.2f ms   query %7.2f ns/op   heap %7.1f MB (%5.1f B/list)%n", name,
+				build / 1e6, (double) query / queries, bytes / 1e6, (double) bytes / lists);
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static List<List<Integer>> buildNested(int[] lengths, int[] values) {
+		List<List<Integer>> lists = new ArrayList<>();
+		int v = 0;
+		for (int length : lengths) {
+			List<Integer> list = new ArrayList<>();
+			for (int j = 0; j < length; j++) {
+				list.add(values[v++]);
+			}
+			lists.add(list);
+		}
+		return lists;
+	}
+
+	private static JaggedIntLists buildJagged(int[] lengths, int[] values) {
+		JaggedIntLists lists = new JaggedIntLists();
+		int v = 0;
+		for (int length : lengths) {
+			lists.addRow(values, v, v + length);
+			v += length;
+		}
+		return lists;
+	}
+
+	private static long queryNested(List<List<Integer>> lists, int[] xs, int[] ys) {
+		long checksum = 0;
+		for (int i = 0; i < xs.length; i++) {
+			try {
+				checksum += lists.get(xs[i] - 1).get(ys[i] - 1);
+			} catch (Exception e) {
+				checksum--;
+			}
+		}
+		return checksum;
+	}
+
+	private static long queryJagged(JaggedIntLists lists, int[] xs, int[] ys) {
+		int[] values = lists.values();
+		long checksum = 0;
+		for (int i = 0; i < xs.length; i++) {
+			int cell = lists.cellIndex(xs[i] - 1, ys[i] - 1);
+			if (cell >= 0) {
+				checksum += values[cell];
+			} else {
+				checksum--;
+			}
+		}
+		return checksum;
+	}
+}
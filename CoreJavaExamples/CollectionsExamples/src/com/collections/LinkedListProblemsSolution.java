@@ -1,9 +1,14 @@
 package com.collections;
 
+import java.io.ByteArrayOutputStream;
+import java.util.LinkedList;
+
 public class LinkedListProblemsSolution {
 
 	public void run() throws Exception {
 
+		FastWriter out = new FastWriter(System.out);
+
 //		LinkedList<Integer> nums = new LinkedList<Integer>();
 //		nums.add(1);
 //		nums.add(11);
@@ -599,5 +604,424 @@ public class LinkedListProblemsSolution {
 		 * 
 		 */
 
+		out.flush();
+	}
+
+	/*
+	 * =========================================================================
+	 * Problems ported to the Problem interface, runnable from Main by id
+	 * =========================================================================
+	 */
+
+	/* Problem 2.1: Build Queue (Basic). N lines of "ADDFIRST X" or "ADDLAST X". */
+	public static class BuildQueue implements Problem {
+		private boolean[] addLast;
+		private int[] values;
+		private LinkedList<Integer> result;
+
+		@Override
+		public void parse(FastReader sc) {
+			int n = sc.nextInt();
+			addLast = new boolean[n];
+			values = new int[n];
+			byte[] word = new byte[16];
+			for (int i = 0; i < n; i++) {
+				int length = sc.nextWord(word);
+				addLast[i] = FastReader.wordEquals(word, length, "ADDLAST");
+				values[i] = sc.nextInt();
+			}
+		}
+
+		@Override
+		public void solve() {
+			result = new LinkedList<Integer>();
+			for (int i = 0; i < values.length; i++) {
+				if (addLast[i]) {
+					result.addLast(values[i]);
+				} else {
+					result.addFirst(values[i]);
+				}
+			}
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			for (int numbers : result) {
+				out.print(numbers).print(' ');
+			}
+			out.println();
+		}
+	}
+
+	/*
+	 * Problem 2.3: Priority Queue Simulation (Advanced). N operations: "INSERT X
+	 * P" inserts X with priority P (1 = highest), "REMOVE" removes the highest
+	 * priority element and "PEEK" prints it, or "Empty". Equal priorities are
+	 * served first in, first out. Backed by an indexed binary heap instead of
+	 * positional LinkedList inserts.
+	 * Time Complexity: O(log N) per operation Space Complexity: O(N)
+	 */
+	public static class PriorityQueueSimulation implements Problem {
+		private static final int INSERT = 0;
+		private static final int REMOVE = 1;
+		private static final int PEEK = 2;
+
+		private int[] operations;
+		private int[] values;
+		private int[] priorities;
+		private ByteArrayOutputStream answers;
+
+		@Override
+		public void parse(FastReader sc) {
+			int n = sc.nextInt();
+			operations = new int[n];
+			values = new int[n];
+			priorities = new int[n];
+			byte[] word = new byte[16];
+			for (int i = 0; i < n; i++) {
+				int length = sc.nextWord(word);
+				if (FastReader.wordEquals(word, length, "INSERT")) {
+					operations[i] = INSERT;
+					values[i] = sc.nextInt();
+					priorities[i] = sc.nextInt();
+				} else if (FastReader.wordEquals(word, length, "REMOVE")) {
+					operations[i] = REMOVE;
+				} else {
+					operations[i] = PEEK;
+				}
+			}
+		}
+
+		@Override
+		public void solve() {
+			IndexedIntPriorityQueue queue = new IndexedIntPriorityQueue();
+			answers = new ByteArrayOutputStream();
+			FastWriter peeks = new FastWriter(answers);
+			for (int i = 0; i < operations.length; i++) {
+				switch (operations[i]) {
+				case INSERT:
+					queue.insert(values[i], priorities[i]);
+					break;
+				case REMOVE:
+					if (!queue.isEmpty()) {
+						queue.poll();
+					}
+					break;
+				default:
+					if (queue.isEmpty()) {
+						peeks.println("Empty");
+					} else {
+						peeks.println(queue.peek());
+					}
+				}
+			}
+			peeks.flush();
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			byte[] bytes = answers.toByteArray();
+			out.write(bytes, 0, bytes.length);
+		}
+	}
+
+	/* Problem 3.1: Basic Remove Operations (Basic). REMOVEFIRST, REMOVELAST, PRINT. */
+	public static class RemoveOperations implements Problem {
+		private static final int REMOVE_FIRST = 0;
+		private static final int REMOVE_LAST = 1;
+		private static final int PRINT = 2;
+
+		private LinkedList<Integer> list;
+		private int[] operations;
+		private ByteArrayOutputStream answers;
+
+		@Override
+		public void parse(FastReader sc) {
+			int n = sc.nextInt();
+			list = new LinkedList<Integer>();
+			for (int i = 0; i < n; i++) {
+				list.add(sc.nextInt());
+			}
+
+			int q = sc.nextInt();
+			operations = new int[q];
+			byte[] word = new byte[16];
+			for (int i = 0; i < q; i++) {
+				int length = sc.nextWord(word);
+				if (FastReader.wordEquals(word, length, "REMOVEFIRST")) {
+					operations[i] = REMOVE_FIRST;
+				} else if (FastReader.wordEquals(word, length, "REMOVELAST")) {
+					operations[i] = REMOVE_LAST;
+				} else {
+					operations[i] = PRINT;
+				}
+			}
+		}
+
+		@Override
+		public void solve() {
+			// PRINT shows the list as it is at that point, so capture it here
+			answers = new ByteArrayOutputStream();
+			FastWriter snapshot = new FastWriter(answers);
+			for (int op : operations) {
+				switch (op) {
+				case REMOVE_FIRST:
+					if (!list.isEmpty()) {
+						list.removeFirst();
+					}
+					break;
+				case REMOVE_LAST:
+					if (!list.isEmpty()) {
+						list.removeLast();
+					}
+					break;
+				default:
+					for (int x : list) {
+						snapshot.print(x).print(' ');
+					}
+					snapshot.println();
+				}
+			}
+			snapshot.flush();
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			byte[] bytes = answers.toByteArray();
+			out.write(bytes, 0, bytes.length);
+		}
+	}
+
+	/*
+	 * Problem 3.2: Deque Operations (Medium). Input is N, N integers, then Q
+	 * operations: "PUSHFRONT X", "PUSHBACK X", "POPFRONT" and "POPBACK". Pops on
+	 * an empty deque are ignored. Prints the final deque, or "Empty".
+	 * Time Complexity: O(1) per operation Space Complexity: O(N + Q)
+	 */
+	public static class DequeOperations implements Problem {
+		private static final int PUSH_FRONT = 0;
+		private static final int PUSH_BACK = 1;
+		private static final int POP_FRONT = 2;
+		private static final int POP_BACK = 3;
+
+		private IntArrayDeque deque;
+		private int[] operations;
+		private int[] values;
+
+		@Override
+		public void parse(FastReader sc) {
+			int n = sc.nextInt();
+			deque = new IntArrayDeque(n);
+			for (int i = 0; i < n; i++) {
+				deque.addLast(sc.nextInt());
+			}
+
+			int q = sc.nextInt();
+			operations = new int[q];
+			values = new int[q];
+			byte[] word = new byte[16];
+			for (int i = 0; i < q; i++) {
+				int length = sc.nextWord(word);
+				if (FastReader.wordEquals(word, length, "PUSHFRONT")) {
+					operations[i] = PUSH_FRONT;
+					values[i] = sc.nextInt();
+				} else if (FastReader.wordEquals(word, length, "PUSHBACK")) {
+					operations[i] = PUSH_BACK;
+					values[i] = sc.nextInt();
+				} else if (FastReader.wordEquals(word, length, "POPFRONT")) {
+					operations[i] = POP_FRONT;
+				} else {
+					operations[i] = POP_BACK;
+				}
+			}
+		}
+
+		@Override
+		public void solve() {
+			for (int i = 0; i < operations.length; i++) {
+				switch (operations[i]) {
+				case PUSH_FRONT:
+					deque.addFirst(values[i]);
+					break;
+				case PUSH_BACK:
+					deque.addLast(values[i]);
+					break;
+				case POP_FRONT:
+					if (!deque.isEmpty()) {
+						deque.removeFirst();
+					}
+					break;
+				default:
+					if (!deque.isEmpty()) {
+						deque.removeLast();
+					}
+				}
+			}
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			if (deque.isEmpty()) {
+				out.println("Empty");
+			} else {
+				int[] remaining = deque.toArray();
+				out.printAll(remaining, 0, remaining.length).println();
+			}
+		}
+	}
+
+	/*
+	 * Problem 3.3: Palindrome Checker (Advanced). Input is N, then N integers.
+	 * Prints "YES" if they read the same from both ends, else "NO" and the first
+	 * mismatching pair, front value first. One pass from both ends over
+	 * primitive storage, split across cores for very long inputs.
+	 * Time Complexity: O(N) Space Complexity: O(N)
+	 */
+	public static class PalindromeCheck implements Problem {
+		private int[] values;
+		private int mismatch;
+
+		@Override
+		public void parse(FastReader sc) {
+			values = sc.nextIntArray(sc.nextInt());
+		}
+
+		@Override
+		public void solve() {
+			mismatch = PalindromeChecker.parallelFirstMismatch(values);
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			if (mismatch < 0) {
+				out.println("YES");
+			} else {
+				out.println("NO");
+				out.print(values[mismatch]).print(' ').println(values[values.length - 1 - mismatch]);
+			}
+		}
+	}
+
+	/* Problem 4.1: Queue Peek Operations (Basic). PEEKFIRST, PEEKLAST, SIZE. */
+	public static class PeekOperations implements Problem {
+		private static final int PEEK_FIRST = 0;
+		private static final int PEEK_LAST = 1;
+		private static final int SIZE = 2;
+
+		private LinkedList<Integer> list;
+		private int[] operations;
+		private int[] answers;
+
+		@Override
+		public void parse(FastReader sc) {
+			int n = sc.nextInt();
+			list = new LinkedList<Integer>();
+			for (int i = 0; i < n; i++) {
+				list.add(sc.nextInt());
+			}
+
+			int q = sc.nextInt();
+			operations = new int[q];
+			byte[] word = new byte[16];
+			for (int i = 0; i < q; i++) {
+				int length = sc.nextWord(word);
+				if (FastReader.wordEquals(word, length, "PEEKFIRST")) {
+					operations[i] = PEEK_FIRST;
+				} else if (FastReader.wordEquals(word, length, "PEEKLAST")) {
+					operations[i] = PEEK_LAST;
+				} else {
+					operations[i] = SIZE;
+				}
+			}
+		}
+
+		@Override
+		public void solve() {
+			answers = new int[operations.length];
+			for (int i = 0; i < operations.length; i++) {
+				switch (operations[i]) {
+				case PEEK_FIRST:
+					answers[i] = list.getFirst();
+					break;
+				case PEEK_LAST:
+					answers[i] = list.getLast();
+					break;
+				default:
+					answers[i] = list.size();
+				}
+			}
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			for (int answer : answers) {
+				out.println(answer);
+			}
+		}
+	}
+
+	/*
+	 * Problem 4.2: Sliding Window Maximum (Medium). Input is N K, then N
+	 * integers. The values are streamed through a monotonic deque, which emits
+	 * each window's maximum as soon as the window is complete.
+	 * Time Complexity: O(N) Space Complexity: O(K)
+	 */
+	public static class SlidingWindowMaximum implements Problem {
+		private int k;
+		private int[] values;
+		private IntArrayList maxima;
+
+		@Override
+		public void parse(FastReader sc) {
+			int n = sc.nextInt();
+			k = sc.nextInt();
+			values = sc.nextIntArray(n);
+		}
+
+		@Override
+		public void solve() {
+			maxima = new IntArrayList(Math.max(0, values.length - k + 1));
+			SlidingWindowExtremum window = SlidingWindowExtremum.streamingMax(k, maxima::add);
+			for (int value : values) {
+				window.accept(value);
+			}
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.printAll(maxima.elements(), 0, maxima.size()).println();
+		}
+	}
+
+	/*
+	 * Problem 4.3: Recent Counter (Advanced). Input is N, then N non-decreasing
+	 * timestamps; prints the number of requests in [T-3000, T] after each one.
+	 * Time Complexity: O(N) Space Complexity: O(requests per window)
+	 */
+	public static class RecentCounterPings implements Problem {
+		private long[] times;
+		private int[] counts;
+
+		@Override
+		public void parse(FastReader sc) {
+			times = new long[sc.nextInt()];
+			for (int i = 0; i < times.length; i++) {
+				times[i] = sc.nextLong();
+			}
+		}
+
+		@Override
+		public void solve() {
+			RecentCounter counter = new RecentCounter();
+			counts = new int[times.length];
+			for (int i = 0; i < times.length; i++) {
+				counts[i] = counter.ping(times[i]);
+			}
+		}
+
+		@Override
+		public void print(FastWriter out) {
+			out.printAll(counts, 0, counts.length).println();
+		}
 	}
 }
@@ -0,0 +1,177 @@
+package com.collections;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from long to int, the long-keyed sibling of
+ * {@link IntIntHashMap}, for keying on prefix sums, which do not fit in an
+ * int: counting them, or remembering where each first appeared.
+ *
+ * Same layout: parallel key and value arrays on the {@link OpenHashTable}
+ * probing and growth, and key 0 stored on the side, since 0 marks an empty
+ * slot.
+ */
+public final class LongIntHashMap extends OpenHashTable {
+
+	/**
+	 * Receives one entry during {@link #forEach(LongIntConsumer)}.
+	 */
+	@FunctionalInterface
+	public interface LongIntConsumer {
+		void accept(long key, int value);
+	}
+
+	private long[] keys;
+	private int[] values;
+	private int zeroValue;
+
+	public LongIntHashMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize number of keys the map should hold without resizing
+	 */
+	public LongIntHashMap(int expectedSize) {
+		super(Long.SIZE);
+		allocate(capacityFor(expectedSize));
+	}
+
+	@Override
+	void allocateSlots(int capacity) {
+		keys = new long[capacity];
+		values = new int[capacity];
+	}
+
+	public boolean containsKey(long key) {
+		if (key == 0) {
+			return hasZeroKey;
+		}
+		return probe(keys, key) >= 0;
+	}
+
+	public int getOrDefault(long key, int defaultValue) {
+		if (key == 0) {
+			return hasZeroKey ? zeroValue : defaultValue;
+		}
+		int i = probe(keys, key);
+		return i >= 0 ? values[i] : defaultValue;
+	}
+
+	public int get(long key) {
+		return getOrDefault(key, 0);
+	}
+
+	public void put(long key, int value) {
+		addTo(key, value, true);
+	}
+
+	/**
+	 * Adds {@code delta} to the value of {@code key}, starting from 0 for a new
+	 * key, and returns the new value.
+	 */
+	public int merge(long key, int delta) {
+		return addTo(key, delta, false);
+	}
+
+	/**
+	 * Adds one to the count of {@code key} and returns the new count.
+	 */
+	public int increment(long key) {
+		return addTo(key, 1, false);
+	}
+
+	/**
+	 * Maps {@code key} to {@code value} unless it is already present.
+	 *
+	 * @return true if the key was added
+	 */
+	public boolean putIfAbsent(long key, int value) {
+		if (key == 0) {
+			if (hasZeroKey) {
+				return false;
+			}
+			hasZeroKey = true;
+			zeroValue = value;
+			return true;
+		}
+		int i = probe(keys, key);
+		if (i >= 0) {
+			return false;
+		}
+		i = -1 - i;
+		keys[i] = key;
+		values[i] = value;
+		added(i);
+		return true;
+	}
+
+	private int addTo(long key, int value, boolean replace) {
+		if (key == 0) {
+			zeroValue = hasZeroKey && !replace ? zeroValue + value : value;
+			hasZeroKey = true;
+			return zeroValue;
+		}
+		int i = probe(keys, key);
+		if (i >= 0) {
+			values[i] = replace ? value : values[i] + value;
+			return values[i];
+		}
+		i = -1 - i;
+		keys[i] = key;
+		values[i] = value;
+		added(i);
+		return value;
+	}
+
+	@Override
+	void move(int from, int to) {
+		keys[to] = keys[from];
+		values[to] = values[from];
+	}
+
+	@Override
+	void clearSlot(int slot) {
+		keys[slot] = 0;
+		values[slot] = 0;
+	}
+
+	@Override
+	void rehash(int capacity) {
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+		allocate(capacity);
+		for (int j = 0; j < oldKeys.length; j++) {
+			long k = oldKeys[j];
+			if (k != 0) {
+				int i = freeSlot(keys, k);
+				keys[i] = k;
+				values[i] = oldValues[j];
+			}
+		}
+	}
+
+	public void clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, 0);
+		assigned = 0;
+		hasZeroKey = false;
+		zeroValue = 0;
+	}
+
+	/**
+	 * Visits every entry in table order without allocating.
+	 */
+	public void forEach(LongIntConsumer action) {
+		if (hasZeroKey) {
+			action.accept(0, zeroValue);
+		}
+		long[] ks = keys;
+		int[] vs = values;
+		for (int i = 0; i < ks.length; i++) {
+			if (ks[i] != 0) {
+				action.accept(ks[i], vs[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.collections;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from long to long: {@link LongIntHashMap} with long
+ * values, for counts that can pass Integer.MAX_VALUE, such as how often a
+ * prefix sum recurs in an unbounded stream.
+ */
+public final class LongLongHashMap extends OpenHashTable {
+
+	/**
+	 * Receives one entry during {@link #forEach(LongLongConsumer)}.
+	 */
+	@FunctionalInterface
+	public interface LongLongConsumer {
+		void accept(long key, long value);
+	}
+
+	private long[] keys;
+	private long[] values;
+	private long zeroValue;
+
+	public LongLongHashMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param expectedSize number of keys the map should hold without resizing
+	 */
+	public LongLongHashMap(int expectedSize) {
+		super(Long.SIZE);
+		allocate(capacityFor(expectedSize));
+	}
+
+	@Override
+	void allocateSlots(int capacity) {
+		keys = new long[capacity];
+		values = new long[capacity];
+	}
+
+	public boolean containsKey(long key) {
+		if (key == 0) {
+			return hasZeroKey;
+		}
+		return probe(keys, key) >= 0;
+	}
+
+	public long getOrDefault(long key, long defaultValue) {
+		if (key == 0) {
+			return hasZeroKey ? zeroValue : defaultValue;
+		}
+		int i = probe(keys, key);
+		return i >= 0 ? values[i] : defaultValue;
+	}
+
+	public long get(long key) {
+		return getOrDefault(key, 0);
+	}
+
+	public void put(long key, long value) {
+		addTo(key, value, true);
+	}
+
+	/**
+	 * Adds {@code delta} to the value of {@code key}, starting from 0 for a new
+	 * key, and returns the new value.
+	 */
+	public long merge(long key, long delta) {
+		return addTo(key, delta, false);
+	}
+
+	/**
+	 * Adds one to the count of {@code key} and returns the new count.
+	 */
+	public long increment(long key) {
+		return addTo(key, 1, false);
+	}
+
+	private long addTo(long key, long value, boolean replace) {
+		if (key == 0) {
+			zeroValue = hasZeroKey && !replace ? zeroValue + value : value;
+			hasZeroKey = true;
+			return zeroValue;
+		}
+		int i = probe(keys, key);
+		if (i >= 0) {
+			values[i] = replace ? value : values[i] + value;
+			return values[i];
+		}
+		i = -1 - i;
+		keys[i] = key;
+		values[i] = value;
+		added(i);
+		return value;
+	}
+
+	@Override
+	void move(int from, int to) {
+		keys[to] = keys[from];
+		values[to] = values[from];
+	}
+
+	@Override
+	void clearSlot(int slot) {
+		keys[slot] = 0;
+		values[slot] = 0;
+	}
+
+	@Override
+	void rehash(int capacity) {
+		long[] oldKeys = keys;
+		long[] oldValues = values;
+		allocate(capacity);
+		for (int j = 0; j < oldKeys.length; j++) {
+			long k = oldKeys[j];
+			if (k != 0) {
+				int i = freeSlot(keys, k);
+				keys[i] = k;
+				values[i] = oldValues[j];
+			}
+		}
+	}
+
+	public void clear() {
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, 0);
+		assigned = 0;
+		hasZeroKey = false;
+		zeroValue = 0;
+	}
+
+	/**
+	 * Visits every entry in table order without allocating.
+	 */
+	public void forEach(LongLongConsumer action) {
+		if (hasZeroKey) {
+			action.accept(0, zeroValue);
+		}
+		long[] ks = keys;
+		long[] vs = values;
+		for (int i = 0; i < ks.length; i++) {
+			if (ks[i] != 0) {
+				action.accept(ks[i], vs[i]);
+			}
+		}
+	}
+}
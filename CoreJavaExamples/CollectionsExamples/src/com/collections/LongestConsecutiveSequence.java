@@ -0,0 +1,264 @@
+package com.collections;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Longest run of consecutive values in an unsorted array, in O(n).
+ *
+ * The values go into an {@link IntHashSet}. A value v whose predecessor v - 1
+ * is missing is the head of a run, and only heads count upwards through the
+ * set, so every value is visited a constant number of times however the runs
+ * are laid out. Duplicates collapse in the set. Runs never wrap around the int
+ * range.
+ *
+ * {@link #parallelLongest(int[])} spreads the work over the fork-join pool
+ * with a concurrent union-find; see there. Both return the same run: the
+ * longest, the one with the smallest first value among equally long ones, or
+ * an empty run for an empty array.
+ */
+public final class LongestConsecutiveSequence {
+
+	// below this many elements the parallel mode just runs sequentially
+	private static final int PARALLEL_THRESHOLD = 1 << 20;
+
+	private LongestConsecutiveSequence() {
+	}
+
+	public static ConsecutiveRun longest(int[] a) {
+		IntHashSet set = IntHashSet.of(a, 0, a.length);
+		Best best = new Best();
+		set.forEach(value -> {
+			if (value != Integer.MIN_VALUE && set.contains(value - 1)) {
+				return; // not a head
+			}
+			int last = value;
+			while (last != Integer.MAX_VALUE && set.contains(last + 1)) {
+				last++;
+			}
+			best.offer(value, (long) last - value + 1);
+		});
+		return best.run();
+	}
+
+	/**
+	 * Parallel form of {@link #longest(int[])}:
+	 * <ol>
+	 * <li>the values are sharded by hash, and each shard gives its distinct
+	 * values dense ids in its own {@link IntIntHashMap}</li>
+	 * <li>every value v is linked to v + 1, if present, in a lock-free
+	 * union-find over the ids, so each run becomes one set</li>
+	 * <li>the value with no successor records itself as the last value of its
+	 * set</li>
+	 * <li>the value with no predecessor is the first value, which with the
+	 * last gives the run's bounds and length</li>
+	 * </ol>
+	 * Every step but the short sums over shards is parallel, and no step walks
+	 * a run element by element, so one very long run does not serialize the
+	 * work.
+	 */
+	public static ConsecutiveRun parallelLongest(int[] a) {
+		if (a.length < PARALLEL_THRESHOLD) {
+			return longest(a);
+		}
+		int parallelism = Runtime.getRuntime().availableProcessors();
+		int chunks = Math.max(2, 4 * parallelism);
+		// as many shards as chunks, rounded up to a power of two
+		int shardBits = 32 - Integer.numberOfLeadingZeros(chunks - 1);
+		int shards = 1 << shardBits;
+		int n = a.length;
+
+		// 1. values by chunk and shard
+		IntArrayList[][] buckets = new IntArrayList[chunks][shards];
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			IntArrayList[] lists = buckets[c];
+			int from = chunkStart(c, chunks, n);
+			int to = chunkStart(c + 1, chunks, n);
+			for (int s = 0; s < shards; s++) {
+				lists[s] = new IntArrayList(Math.max(16, (to - from) / shards + (to - from) / (4 * shards)));
+			}
+			for (int i = from; i < to; i++) {
+				lists[shard(a[i], shardBits)].add(a[i]);
+			}
+		});
+
+		// 2. dense ids for the distinct values of each shard
+		IntIntHashMap[] ids = new IntIntHashMap[shards];
+		IntArrayList[] distinct = new IntArrayList[shards];
+		IntStream.range(0, shards).parallel().forEach(s -> {
+			int total = 0;
+			for (int c = 0; c < chunks; c++) {
+				total += buckets[c][s].size();
+			}
+			IntIntHashMap map = new IntIntHashMap(total);
+			IntArrayList values = new IntArrayList(total);
+			for (int c = 0; c < chunks; c++) {
+				IntArrayList bucket = buckets[c][s];
+				for (int i = 0; i < bucket.size(); i++) {
+					int value = bucket.get(i);
+					if (!map.containsKey(value)) {
+						map.put(value, values.size());
+						values.add(value);
+					}
+				}
+				buckets[c][s] = null;
+			}
+			ids[s] = map;
+			distinct[s] = values;
+		});
+		int[] base = new int[shards + 1];
+		for (int s = 0; s < shards; s++) {
+			base[s + 1] = base[s] + distinct[s].size();
+		}
+		int count = base[shards];
+		int[] values = new int[count];
+		IntStream.range(0, shards).parallel().forEach(s -> {
+			System.arraycopy(distinct[s].elements(), 0, values, base[s], distinct[s].size());
+			distinct[s] = null;
+		});
+		IdLookup lookup = new IdLookup(ids, base, shardBits);
+
+		// 3. link every value to its successor
+		AtomicIntegerArray parent = new AtomicIntegerArray(count);
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			for (int id = chunkStart(c, chunks, count), end = chunkStart(c + 1, chunks, count); id < end; id++) {
+				parent.set(id, id);
+			}
+		});
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			for (int id = chunkStart(c, chunks, count), end = chunkStart(c + 1, chunks, count); id < end; id++) {
+				int value = values[id];
+				if (value != Integer.MAX_VALUE) {
+					int next = lookup.idOf(value + 1);
+					if (next >= 0) {
+						union(parent, id, next);
+					}
+				}
+			}
+		});
+
+		// 4. last value of each run, stored at its root
+		int[] last = new int[count];
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			for (int id = chunkStart(c, chunks, count), end = chunkStart(c + 1, chunks, count); id < end; id++) {
+				int value = values[id];
+				if (value == Integer.MAX_VALUE || lookup.idOf(value + 1) < 0) {
+					last[find(parent, id)] = value;
+				}
+			}
+		});
+
+		// 5. each run's first value meets its last at the root
+		Best[] best = new Best[chunks];
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			Best local = new Best();
+			for (int id = chunkStart(c, chunks, count), end = chunkStart(c + 1, chunks, count); id < end; id++) {
+				int value = values[id];
+				if (value == Integer.MIN_VALUE || lookup.idOf(value - 1) < 0) {
+					local.offer(value, (long) last[find(parent, id)] - value + 1);
+				}
+			}
+			best[c] = local;
+		});
+		Best overall = new Best();
+		for (Best local : best) {
+			overall.offer(local.first, local.length);
+		}
+		return overall.run();
+	}
+
+	/**
+	 * Root of {@code x}, halving the path on the way.
+	 */
+	private static int find(AtomicIntegerArray parent, int x) {
+		while (true) {
+			int p = parent.get(x);
+			if (p == x) {
+				return x;
+			}
+			int grandparent = parent.get(p);
+			if (grandparent != p) {
+				parent.compareAndSet(x, p, grandparent);
+			}
+			x = grandparent;
+		}
+	}
+
+	/**
+	 * Links the sets of {@code x} and {@code y}, always hanging the larger root
+	 * under the smaller, so concurrent links cannot form a cycle. A failed CAS
+	 * means the root was just linked elsewhere, so the roots are looked up again.
+	 */
+	private static void union(AtomicIntegerArray parent, int x, int y) {
+		while (true) {
+			x = find(parent, x);
+			y = find(parent, y);
+			if (x == y) {
+				return;
+			}
+			if (x < y) {
+				int t = x;
+				x = y;
+				y = t;
+			}
+			if (parent.compareAndSet(x, x, y)) {
+				return;
+			}
+		}
+	}
+
+	private static int chunkStart(int chunk, int chunks, int n) {
+		return (int) ((long) n * chunk / chunks);
+	}
+
+	/**
+	 * Shard of a value. Uses a different multiplier from the maps' own slot
+	 * hash, so a shard's values still spread over its map.
+	 */
+	private static int shard(int value, int bits) {
+		return (value * 0x85EBCA6B) >>> (32 - bits);
+	}
+
+	/**
+	 * Global dense id of a value: the shard's base plus its id in the shard.
+	 */
+	private static final class IdLookup {
+		private final IntIntHashMap[] ids;
+		private final int[] base;
+		private final int shardBits;
+
+		IdLookup(IntIntHashMap[] ids, int[] base, int shardBits) {
+			this.ids = ids;
+			this.base = base;
+			this.shardBits = shardBits;
+		}
+
+		/**
+		 * Id of {@code value}, or -1 if it is not in the input.
+		 */
+		int idOf(int value) {
+			int s = shard(value, shardBits);
+			int id = ids[s].getOrDefault(value, -1);
+			return id < 0 ? -1 : base[s] + id;
+		}
+	}
+
+	/**
+	 * Longest run seen so far; ties go to the smaller first value.
+	 */
+	private static final class Best {
+		int first;
+		long length;
+
+		void offer(int candidateFirst, long candidateLength) {
+			if (candidateLength > length || candidateLength == length && candidateLength > 0 && candidateFirst < first) {
+				first = candidateFirst;
+				length = candidateLength;
+			}
+		}
+
+		ConsecutiveRun run() {
+			return length == 0 ? ConsecutiveRun.EMPTY : new ConsecutiveRun(first, length);
+		}
+	}
+}
@@ -0,0 +1,261 @@
+package com.collections;
+
+import java.util.stream.IntStream;
+
+/**
+ * Longest subarray whose elements sum to K, for inputs of any sign.
+ *
+ * The two-pointer solution shrinks the window whenever the sum exceeds K,
+ * which is only valid when no element is negative. With prefix sums P(0) = 0
+ * and P(j) = a[0] + ... + a[j - 1], the subarray [i, j) sums to K exactly when
+ * P(i) = P(j) - K, and it is longest when i is the first position where that
+ * prefix sum appeared. So one pass that remembers the first index of every
+ * prefix sum, in a {@link LongIntHashMap}, finds it in O(n).
+ *
+ * One map holds at most 2^29 keys, and an array can have up to 2^31 distinct
+ * prefix sums. Past {@value #PARTITION_KEYS} elements the prefix sums are
+ * therefore split by hash across several maps, as the parallel mode does.
+ * Each map then stays well under its limit. What remains is memory: at a load
+ * factor of one half, every distinct prefix sum takes 24 to 48 bytes, so
+ * 10^9 distinct ones need a heap of 24 to 48 GB.
+ *
+ * {@link #parallelLongest(int[], long)} spreads that over the fork-join pool
+ * for very large arrays; see there. Both return the same answer: the longest
+ * subarray, the one that starts first among equally long ones, or an empty
+ * subarray if none sums to K.
+ */
+public final class LongestSubarraySum {
+
+	// below this many elements the parallel mode just runs sequentially
+	private static final int PARALLEL_THRESHOLD = 1 << 20;
+	// prefix sums per hash partition at most, half of what one LongIntHashMap holds
+	static final int PARTITION_KEYS = 1 << 28;
+
+	private LongestSubarraySum() {
+	}
+
+	public static Subarray longest(int[] a, long k) {
+		int bits = sizeBits(a.length);
+		if (bits > 0) {
+			return partitionedLongest(a, k, bits);
+		}
+		LongIntHashMap first = new LongIntHashMap(Math.min(a.length + 1, 1 << 16));
+		first.put(0, 0);
+		long prefix = 0;
+		int bestStart = 0;
+		int bestLength = 0;
+		for (int j = 1; j <= a.length; j++) {
+			prefix += a[j - 1];
+			int i = first.getOrDefault(prefix - k, -1);
+			if (i >= 0 && j - i > bestLength) {
+				bestStart = i;
+				bestLength = j - i;
+			}
+			first.putIfAbsent(prefix, j);
+		}
+		return new Subarray(bestStart, bestStart + bestLength, bestLength == 0 ? 0 : k);
+	}
+
+	/**
+	 * The same scan with the first positions spread over 2^bits maps by
+	 * {@link #partition(long, int)}, for arrays with more prefix sums than one
+	 * map holds.
+	 */
+	private static Subarray partitionedLongest(int[] a, long k, int bits) {
+		LongIntHashMap[] first = new LongIntHashMap[1 << bits];
+		for (int p = 0; p < first.length; p++) {
+			first[p] = new LongIntHashMap(1 << 16);
+		}
+		first[partition(0, bits)].put(0, 0);
+		long prefix = 0;
+		int bestStart = 0;
+		int bestLength = 0;
+		for (int j = 1; j <= a.length; j++) {
+			prefix += a[j - 1];
+			long target = prefix - k;
+			int i = first[partition(target, bits)].getOrDefault(target, -1);
+			if (i >= 0 && j - i > bestLength) {
+				bestStart = i;
+				bestLength = j - i;
+			}
+			first[partition(prefix, bits)].putIfAbsent(prefix, j);
+		}
+		return new Subarray(bestStart, bestStart + bestLength, bestLength == 0 ? 0 : k);
+	}
+
+	/**
+	 * Partition bits that keep the n + 1 prefix sums of an n-element array at
+	 * about {@value #PARTITION_KEYS} per map: 0 when one map is enough.
+	 */
+	static int sizeBits(int n) {
+		long maps = ((long) n + PARTITION_KEYS) / PARTITION_KEYS; // ceil((n + 1) / PARTITION_KEYS)
+		return 64 - Long.numberOfLeadingZeros(maps - 1);
+	}
+
+	/**
+	 * Parallel form of {@link #longest(int[], long)}.
+	 *
+	 * For every prefix value v, the best subarray starting at a position with
+	 * P = v runs from the first position where v appears to the last position
+	 * where v + K appears, if that comes later. So the answer only needs the
+	 * first and last position of each prefix value, which segments of the array
+	 * can compute independently once they know the prefix sum at their start:
+	 * <ol>
+	 * <li>sum every segment, and add up the segment sums to get each segment's
+	 * starting prefix</li>
+	 * <li>each segment records the first and last position of each prefix
+	 * value it produces, split into hash partitions</li>
+	 * <li>each partition merges the segments' records in array order: the
+	 * earliest segment's first position and the latest segment's last position
+	 * win</li>
+	 * <li>each partition pairs its first positions of v with the last position
+	 * of v + K, wherever that lives, and keeps the longest</li>
+	 * </ol>
+	 * Every step but the short running sum over segments is parallel, and the
+	 * work is O(n) in total. Every prefix value sits in both a first-position
+	 * map and a last-position map of its segment. Step 3 builds the merged
+	 * first and last maps while segment maps are still held. So with every
+	 * partition merging at once on many cores, the peak memory approaches
+	 * four times that of the sequential scan. On one core the partitions
+	 * merge one after another and free their segment maps as they go. There,
+	 * with 8M distinct prefix sums, this mode needed 510 MB of heap against
+	 * 360 MB for the sequential scan, input excluded. There are at least as
+	 * many partitions as the sequential scan would use, so no map grows past
+	 * its limit.
+	 */
+	public static Subarray parallelLongest(int[] a, long k) {
+		if (a.length < PARALLEL_THRESHOLD) {
+			return longest(a, k);
+		}
+		int parallelism = Runtime.getRuntime().availableProcessors();
+		int segments = Math.max(2, 4 * parallelism);
+		int partitionBits = Math.max(32 - Integer.numberOfLeadingZeros(4 * parallelism - 1), sizeBits(a.length));
+		int partitions = 1 << partitionBits;
+		int n = a.length;
+
+		// 1. segment sums, then the prefix sum at each segment start
+		long[] segmentSum = new long[segments];
+		IntStream.range(0, segments).parallel().forEach(s -> {
+			long sum = 0;
+			for (int i = segmentStart(s, segments, n), end = segmentStart(s + 1, segments, n); i < end; i++) {
+				sum += a[i];
+			}
+			segmentSum[s] = sum;
+		});
+		long[] startPrefix = new long[segments];
+		for (int s = 1; s < segments; s++) {
+			startPrefix[s] = startPrefix[s - 1] + segmentSum[s - 1];
+		}
+
+		// 2. first and last position of each prefix value, per segment and partition.
+		// Segment s owns the prefix positions (start, end], segment 0 also owns 0.
+		LongIntHashMap[][] segmentFirst = new LongIntHashMap[segments][partitions];
+		LongIntHashMap[][] segmentLast = new LongIntHashMap[segments][partitions];
+		IntStream.range(0, segments).parallel().forEach(s -> {
+			LongIntHashMap[] firsts = segmentFirst[s];
+			LongIntHashMap[] lasts = segmentLast[s];
+			for (int p = 0; p < partitions; p++) {
+				firsts[p] = new LongIntHashMap();
+				lasts[p] = new LongIntHashMap();
+			}
+			long prefix = startPrefix[s];
+			int start = segmentStart(s, segments, n);
+			if (s == 0) {
+				firsts[partition(0, partitionBits)].put(0, 0);
+				lasts[partition(0, partitionBits)].put(0, 0);
+			}
+			for (int j = start + 1, end = segmentStart(s + 1, segments, n); j <= end; j++) {
+				prefix += a[j - 1];
+				int p = partition(prefix, partitionBits);
+				firsts[p].putIfAbsent(prefix, j);
+				lasts[p].put(prefix, j);
+			}
+		});
+
+		// 3. merge the segments within each partition
+		LongIntHashMap[] first = new LongIntHashMap[partitions];
+		LongIntHashMap[] last = new LongIntHashMap[partitions];
+		IntStream.range(0, partitions).parallel().forEach(p -> {
+			// Sized for every entry up front: feeding a map's entries in table
+			// order into a smaller table with the same slot hash piles them into
+			// one long probe cluster.
+			int total = 0;
+			for (int s = 0; s < segments; s++) {
+				total += segmentFirst[s][p].size();
+			}
+			LongIntHashMap merged = new LongIntHashMap(total);
+			for (int s = 0; s < segments; s++) {
+				segmentFirst[s][p].forEach(merged::putIfAbsent);
+				segmentFirst[s][p] = null;
+			}
+			first[p] = merged;
+			merged = new LongIntHashMap(total);
+			for (int s = segments - 1; s >= 0; s--) {
+				segmentLast[s][p].forEach(merged::putIfAbsent);
+				segmentLast[s][p] = null;
+			}
+			last[p] = merged;
+		});
+
+		// 4. pair first(v) with last(v + k) and keep the best per partition
+		long[] best = new long[partitions];
+		IntStream.range(0, partitions).parallel().forEach(p -> {
+			Best local = new Best();
+			first[p].forEach((value, i) -> {
+				long target = value + k;
+				int j = last[partition(target, partitionBits)].getOrDefault(target, -1);
+				if (j > i) {
+					local.offer(i, j - i);
+				}
+			});
+			best[p] = local.packed();
+		});
+
+		Best overall = new Best();
+		for (long packed : best) {
+			overall.offer(Best.start(packed), Best.length(packed));
+		}
+		int length = overall.length;
+		return new Subarray(overall.start, overall.start + length, length == 0 ? 0 : k);
+	}
+
+	private static int segmentStart(int segment, int segments, int n) {
+		return (int) ((long) n * segment / segments);
+	}
+
+	/**
+	 * Hash partition of a prefix value. Uses a different multiplier from the
+	 * maps' own slot hash, so a partition's keys still spread over its map.
+	 */
+	static int partition(long value, int bits) {
+		return bits == 0 ? 0 : (int) ((value * 0xC2B2AE3D27D4EB4FL) >>> (64 - bits));
+	}
+
+	/**
+	 * Longest (start, length) seen so far; ties go to the smaller start, like
+	 * the sequential scan.
+	 */
+	private static final class Best {
+		int start;
+		int length;
+
+		void offer(int candidateStart, int candidateLength) {
+			if (candidateLength > length || candidateLength == length && candidateLength > 0 && candidateStart < start) {
+				start = candidateStart;
+				length = candidateLength;
+			}
+		}
+
+		long packed() {
+			return (long) start << 32 | length;
+		}
+
+		static int start(long packed) {
+			return (int) (packed >>> 32);
+		}
+
+		static int length(long packed) {
+			return (int) packed;
+		}
+	}
+}
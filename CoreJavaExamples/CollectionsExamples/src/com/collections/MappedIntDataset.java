@@ -0,0 +1,262 @@
+package com.collections;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.InputMismatchException;
+
+/**
+ * Read-only view of an on-disk int dump mapped with {@link FileChannel#map}.
+ *
+ * Binary files are raw little-endian 32-bit ints with no header. A single
+ * mapping is limited to 2 GB, so the file is mapped as a series of 1 GB
+ * windows and {@link #get(long)} picks the window from the high bits of the
+ * index. Nothing is copied into the heap; the OS pages data in on demand.
+ *
+ * Text files (whitespace separated ints, like the console input the problems
+ * read) cannot be indexed randomly, so they are parsed once through mapped
+ * windows, either into an int[] or into a binary dump that can then be opened
+ * here.
+ */
+public class MappedIntDataset implements Closeable {
+
+	private static final int WINDOW_SHIFT = 28; // ints per window = 2^28 = 1 GB
+	private static final long WINDOW_INTS = 1L << WINDOW_SHIFT;
+	private static final long WINDOW_BYTES = WINDOW_INTS * Integer.BYTES;
+	private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+	private final FileChannel channel;
+	private final IntBuffer[] windows;
+	private final long size;
+
+	private MappedIntDataset(FileChannel channel, IntBuffer[] windows, long size) {
+		this.channel = channel;
+		this.windows = windows;
+		this.size = size;
+	}
+
+	/**
+	 * Maps a binary dump of little-endian ints.
+	 */
+	public static MappedIntDataset openBinary(Path file) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			long bytes = channel.size();
+			if (bytes % Integer.BYTES != 0) {
+				throw new IOException(file + " is " + bytes + " bytes, not a whole number of ints");
+			}
+			long size = bytes / Integer.BYTES;
+			int count = (int) ((bytes + WINDOW_BYTES - 1) / WINDOW_BYTES);
+			IntBuffer[] windows = new IntBuffer[count];
+			for (int w = 0; w < count; w++) {
+				long offset = w * WINDOW_BYTES;
+				long length = Math.min(WINDOW_BYTES, bytes - offset);
+				MappedByteBuffer mapped = channel.map(MapMode.READ_ONLY, offset, length);
+				windows[w] = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			}
+			return new MappedIntDataset(channel, windows, size);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	public long size() {
+		return size;
+	}
+
+	public int get(long index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return windows[(int) (index >>> WINDOW_SHIFT)].get((int) (index & (WINDOW_INTS - 1)));
+	}
+
+	/**
+	 * Number of mapped windows. Every window except the last holds 2^28 ints.
+	 */
+	public int windowCount() {
+		return windows.length;
+	}
+
+	/**
+	 * Returns an independent read-only view of one mapped window, positioned at
+	 * 0. Scanning a window with absolute {@code get(int)} is the fastest way to
+	 * walk the file.
+	 */
+	public IntBuffer window(int w) {
+		return windows[w].asReadOnlyBuffer();
+	}
+
+	/**
+	 * Copies the whole dataset into a heap array. Only for datasets that fit in
+	 * a Java array; large dumps should be processed window by window.
+	 */
+	public int[] toArray() {
+		if (size > MAX_ARRAY_LENGTH) {
+			throw new IllegalStateException("Dataset of " + size + " ints does not fit in an int[]");
+		}
+		int[] values = new int[(int) size];
+		int offset = 0;
+		for (IntBuffer window : windows) {
+			IntBuffer view = window.duplicate();
+			int length = view.remaining();
+			view.get(values, offset, length);
+			offset += length;
+		}
+		return values;
+	}
+
+	/**
+	 * Unmapping happens when the buffers are garbage collected; closing
+	 * releases the file handle.
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Parses a whitespace separated text file of ints into an array.
+	 */
+	public static int[] readText(Path file) throws IOException {
+		IntArrayCollector collector = new IntArrayCollector();
+		parseText(file, collector);
+		return collector.toArray();
+	}
+
+	/**
+	 * Converts a text file of ints into a binary dump that
+	 * {@link #openBinary(Path)} can map. Works for files of any size.
+	 *
+	 * @return number of ints written
+	 */
+	public static long textToBinary(Path text, Path binary) throws IOException {
+		try (LittleEndianIntWriter writer = new LittleEndianIntWriter(Files.newOutputStream(binary))) {
+			parseText(text, writer);
+			return writer.count;
+		}
+	}
+
+	/**
+	 * Writes {@code values} as a binary dump.
+	 */
+	public static void writeBinary(Path binary, int[] values) throws IOException {
+		try (LittleEndianIntWriter writer = new LittleEndianIntWriter(Files.newOutputStream(binary))) {
+			for (int value : values) {
+				writer.accept(value);
+			}
+		}
+	}
+
+	/**
+	 * Streams every int in a text file to {@code sink}. The file is mapped in
+	 * 1 GB windows; a number split across two windows is carried over.
+	 */
+	private static void parseText(Path file, IntSink sink) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long bytes = channel.size();
+			long value = 0;
+			boolean negative = false;
+			boolean inNumber = false;
+			for (long offset = 0; offset < bytes; offset += WINDOW_BYTES) {
+				long length = Math.min(WINDOW_BYTES, bytes - offset);
+				MappedByteBuffer window = channel.map(MapMode.READ_ONLY, offset, length);
+				int limit = window.limit();
+				for (int i = 0; i < limit; i++) {
+					int c = window.get(i);
+					if (c >= '0' && c <= '9') {
+						value = value * 10 + (c - '0');
+						if (value > 1L + Integer.MAX_VALUE) {
+							throw new InputMismatchException("Value out of int range near byte " + (offset + i));
+						}
+						inNumber = true;
+					} else if (c == '-' && !inNumber && !negative) {
+						negative = true;
+					} else if (c >= 0 && c <= ' ') {
+						if (inNumber) {
+							sink.accept(toInt(value, negative, offset + i));
+						} else if (negative) {
+							throw new InputMismatchException("Dangling '-' near byte " + (offset + i));
+						}
+						value = 0;
+						negative = false;
+						inNumber = false;
+					} else {
+						throw new InputMismatchException("Unexpected byte " + c + " at offset " + (offset + i));
+					}
+				}
+			}
+			if (inNumber) {
+				sink.accept(toInt(value, negative, bytes));
+			}
+		}
+	}
+
+	private static int toInt(long value, boolean negative, long position) {
+		long signed = negative ? -value : value;
+		if (signed > Integer.MAX_VALUE) {
+			throw new InputMismatchException("Value out of int range near byte " + position);
+		}
+		return (int) signed;
+	}
+
+	private interface IntSink {
+		void accept(int value) throws IOException;
+	}
+
+	private static final class IntArrayCollector implements IntSink {
+		private int[] values = new int[1024];
+		private int size;
+
+		@Override
+		public void accept(int value) {
+			if (size == values.length) {
+				if (size == MAX_ARRAY_LENGTH) {
+					throw new IllegalStateException("Text file holds more ints than fit in an int[]");
+				}
+				int grown = (int) Math.min(MAX_ARRAY_LENGTH, (long) size * 2);
+				int[] copy = new int[grown];
+				System.arraycopy(values, 0, copy, 0, size);
+				values = copy;
+			}
+			values[size++] = value;
+		}
+
+		int[] toArray() {
+			int[] result = new int[size];
+			System.arraycopy(values, 0, result, 0, size);
+			return result;
+		}
+	}
+
+	private static final class LittleEndianIntWriter implements IntSink, Closeable {
+		private final DataOutputStream out;
+		private long count;
+
+		LittleEndianIntWriter(OutputStream out) {
+			this.out = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+		}
+
+		@Override
+		public void accept(int value) throws IOException {
+			out.writeInt(Integer.reverseBytes(value));
+			count++;
+		}
+
+		@Override
+		public void close() throws IOException {
+			out.close();
+		}
+	}
+}
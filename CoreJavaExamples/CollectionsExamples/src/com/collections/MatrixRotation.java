@@ -0,0 +1,258 @@
+package com.collections;
+
+import java.util.stream.IntStream;
+
+/**
+ * Rotations and transposes of matrices stored row-major in a flat int[]: cell
+ * (i, j) of a rows x cols matrix lives at {@code i * cols + j}.
+ *
+ * Square matrices rotate by quarter turns in place. Every cell is part of a
+ * cycle of four cells, (i, j), (j, n-1-i), (n-1-i, n-1-j) and (n-1-j, i), and
+ * one pass over a quarter of the matrix moves each cycle along, so every cell
+ * is read and written once. Two of the four cells in a cycle are walked down a
+ * column, so the pass goes tile by tile: the four {@value #TILE} x
+ * {@value #TILE} tiles of a step stay in L1 while their cycles are moved, and
+ * the cache lines they share with the next tiles are still there when those
+ * come. The textbook transpose-then-reverse takes two passes over the matrix
+ * for the same result.
+ *
+ * A half turn is a reversal of the flat array, for any shape. Non-square
+ * matrices cannot turn a quarter in place, since the result has a different
+ * shape; {@link #rotate(int[], int, int, int, int[])} writes it, tiled the
+ * same way, into a cols x rows output buffer.
+ *
+ * Matrices of at least {@value #PARALLEL_THRESHOLD} cells split their bands
+ * of tiles across the common fork-join pool.
+ */
+public final class MatrixRotation {
+
+	// cells per tile side; measured fastest against 4, 16, 32 and 64 on large
+	// power-of-two matrices, where taller tiles touch too many pages at once
+	private static final int TILE = 8;
+	// from this many cells on, bands of tiles run in parallel
+	private static final int PARALLEL_THRESHOLD = 1 << 20;
+
+	private MatrixRotation() {
+	}
+
+	/**
+	 * Rotates the n x n matrix 90 degrees clockwise in place.
+	 */
+	public static void rotateClockwise(int[] m, int n) {
+		rotate(m, n, 1);
+	}
+
+	/**
+	 * Rotates the n x n matrix 90 degrees counterclockwise in place.
+	 */
+	public static void rotateCounterClockwise(int[] m, int n) {
+		rotate(m, n, -1);
+	}
+
+	/**
+	 * Rotates the whole array a half turn in place, whatever the shape of the
+	 * matrix it holds: cell (i, j) of a rows x cols matrix moves to (rows-1-i,
+	 * cols-1-j), which is flat index length-1-k for k.
+	 */
+	public static void rotate180(int[] m) {
+		int half = m.length / 2;
+		forBands(m.length, half, 1 << 16, (from, to) -> {
+			for (int i = from, j = m.length - 1 - from; i < to; i++, j--) {
+				int t = m[i];
+				m[i] = m[j];
+				m[j] = t;
+			}
+		});
+	}
+
+	/**
+	 * Rotates the n x n matrix in place by {@code quarterTurns} quarter turns,
+	 * clockwise when positive and counterclockwise when negative.
+	 */
+	public static void rotate(int[] m, int n, int quarterTurns) {
+		checkSquare(m, n);
+		switch (Math.floorMod(quarterTurns, 4)) {
+		case 0:
+			break;
+		case 1:
+			cycle(m, n, true);
+			break;
+		case 2:
+			rotate180(m);
+			break;
+		default:
+			cycle(m, n, false);
+		}
+	}
+
+	/**
+	 * Writes the rows x cols matrix {@code src} rotated by {@code quarterTurns}
+	 * quarter turns, clockwise when positive, into {@code dst}. The result is
+	 * cols x rows for an odd number of turns and rows x cols otherwise. The
+	 * arrays must not overlap.
+	 *
+	 * @return dst
+	 */
+	public static int[] rotate(int[] src, int rows, int cols, int quarterTurns, int[] dst) {
+		checkShape(src, rows, cols);
+		checkShape(dst, rows, cols);
+		switch (Math.floorMod(quarterTurns, 4)) {
+		case 0:
+			System.arraycopy(src, 0, dst, 0, rows * cols);
+			break;
+		case 1:
+			tiledCopy(src, rows, cols, dst, Turn.CLOCKWISE);
+			break;
+		case 2:
+			int last = rows * cols - 1;
+			forBands(rows * cols, rows * cols, 1 << 16, (from, to) -> {
+				for (int k = from; k < to; k++) {
+					dst[last - k] = src[k];
+				}
+			});
+			break;
+		default:
+			tiledCopy(src, rows, cols, dst, Turn.COUNTERCLOCKWISE);
+		}
+		return dst;
+	}
+
+	/**
+	 * Transposes the n x n matrix in place, swapping tiles across the diagonal.
+	 */
+	public static void transpose(int[] m, int n) {
+		checkSquare(m, n);
+		forBands(n * n, n, TILE, (fromRow, toRow) -> {
+			for (int ib = fromRow; ib < toRow; ib += TILE) {
+				int iEnd = Math.min(ib + TILE, n);
+				for (int jb = ib; jb < n; jb += TILE) {
+					int jEnd = Math.min(jb + TILE, n);
+					for (int i = ib; i < iEnd; i++) {
+						for (int j = Math.max(jb, i + 1); j < jEnd; j++) {
+							int a = i * n + j;
+							int b = j * n + i;
+							int t = m[a];
+							m[a] = m[b];
+							m[b] = t;
+						}
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Writes the transpose of the rows x cols matrix {@code src}, which is cols
+	 * x rows, into {@code dst}.
+	 *
+	 * @return dst
+	 */
+	public static int[] transpose(int[] src, int rows, int cols, int[] dst) {
+		checkShape(src, rows, cols);
+		checkShape(dst, rows, cols);
+		tiledCopy(src, rows, cols, dst, Turn.TRANSPOSE);
+		return dst;
+	}
+
+	/**
+	 * Moves every four-cell cycle one step. The cycles are those starting at
+	 * (i, j) with i < n/2 and j < (n+1)/2; that quarter is walked tile by tile,
+	 * one band of tile rows per task.
+	 */
+	private static void cycle(int[] m, int n, boolean clockwise) {
+		int half = n / 2;
+		int width = (n + 1) / 2;
+		int last = n - 1;
+		forBands(n * n, half, TILE, (fromRow, toRow) -> {
+			for (int ib = fromRow; ib < toRow; ib += TILE) {
+				int iEnd = Math.min(ib + TILE, half);
+				for (int jb = 0; jb < width; jb += TILE) {
+					int jEnd = Math.min(jb + TILE, width);
+					for (int i = ib; i < iEnd; i++) {
+						for (int j = jb; j < jEnd; j++) {
+							int topLeft = i * n + j;
+							int topRight = j * n + last - i;
+							int bottomRight = (last - i) * n + last - j;
+							int bottomLeft = (last - j) * n + i;
+							int t = m[topLeft];
+							if (clockwise) {
+								m[topLeft] = m[bottomLeft];
+								m[bottomLeft] = m[bottomRight];
+								m[bottomRight] = m[topRight];
+								m[topRight] = t;
+							} else {
+								m[topLeft] = m[topRight];
+								m[topRight] = m[bottomRight];
+								m[bottomRight] = m[bottomLeft];
+								m[bottomLeft] = t;
+							}
+						}
+					}
+				}
+			}
+		});
+	}
+
+	private enum Turn {
+		CLOCKWISE, COUNTERCLOCKWISE, TRANSPOSE
+	}
+
+	/**
+	 * Out-of-place quarter turn or transpose of a rows x cols matrix into a
+	 * cols x rows one, tile by tile so the column-wise writes stay in cache.
+	 * Source cell (i, j) goes to row j (clockwise, transpose) or cols-1-j
+	 * (counterclockwise), column rows-1-i (clockwise) or i (otherwise).
+	 */
+	private static void tiledCopy(int[] src, int rows, int cols, int[] dst, Turn turn) {
+		forBands(rows * cols, rows, TILE, (fromRow, toRow) -> {
+			for (int ib = fromRow; ib < toRow; ib += TILE) {
+				int iEnd = Math.min(ib + TILE, rows);
+				for (int jb = 0; jb < cols; jb += TILE) {
+					int jEnd = Math.min(jb + TILE, cols);
+					for (int i = ib; i < iEnd; i++) {
+						int column = turn == Turn.CLOCKWISE ? rows - 1 - i : i;
+						for (int j = jb; j < jEnd; j++) {
+							int row = turn == Turn.COUNTERCLOCKWISE ? cols - 1 - j : j;
+							dst[row * rows + column] = src[i * cols + j];
+						}
+					}
+				}
+			}
+		});
+	}
+
+	@FunctionalInterface
+	private interface Band {
+		void run(int from, int to);
+	}
+
+	/**
+	 * Runs {@code band} over [0, length) in pieces that are multiples of
+	 * {@code step}: in parallel when the matrix has at least
+	 * {@link #PARALLEL_THRESHOLD} cells, otherwise as one piece.
+	 */
+	private static void forBands(int cells, int length, int step, Band band) {
+		if (cells < PARALLEL_THRESHOLD || length <= step) {
+			band.run(0, length);
+			return;
+		}
+		int steps = (length + step - 1) / step;
+		int bands = Math.min(steps, 4 * Runtime.getRuntime().availableProcessors());
+		IntStream.range(0, bands).parallel().forEach(b -> {
+			int from = (int) ((long) steps * b / bands) * step;
+			int to = (int) Math.min(length, (long) steps * (b + 1) / bands * step);
+			band.run(from, to);
+		});
+	}
+
+	private static void checkSquare(int[] m, int n) {
+		checkShape(m, n, n);
+	}
+
+	private static void checkShape(int[] m, int rows, int cols) {
+		if (rows < 0 || cols < 0 || (long) rows * cols != m.length) {
+			throw new IllegalArgumentException(
+					"Array of length " + m.length + " does not hold a " + rows + " x " + cols + " matrix");
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Locale;
+
+/**
+ * Compares ways of rotating an n x n matrix 90 degrees clockwise:
+ * <ul>
+ * <li>nested: {@code ArrayList<ArrayList<Integer>>}, transposed with boxed
+ * swaps and each row reversed with Collections.reverse, as in
+ * DSAProblemSolving (only up to 4096 x 4096)</li>
+ * <li>flat naive: the same transpose and reverse on a flat int[], cell by
+ * cell</li>
+ * <li>flat tiled: {@link MatrixRotation#rotateClockwise(int[], int)}</li>
+ * </ul>
+ * Each is reported in ns per cell and in GB/s of one read and one write per
+ * cell.
+ *
+ * Usage: java com.collections.MatrixRotationBenchmark [n]
+ */
+public class MatrixRotationBenchmark {
+
+	private static final int ROUNDS = 5;
+	private static final int NESTED_LIMIT = 4096;
+	private static long sink;
+
+	public static void main(String[] args) {
+		int n = args.length > 0 ? Integer.parseInt(args[0]) : 8192;
+		int[] flat = new int[Math.multiplyExact(n, n)];
+		for (int i = 0; i < flat.length; i++) {
+			flat[i] = i;
+		}
+		ArrayList<ArrayList<Integer>> nested = null;
+		if (n <= NESTED_LIMIT) {
+			nested = new ArrayList<>(n);
+			for (int i = 0; i < n; i++) {
+				ArrayList<Integer> row = new ArrayList<>(n);
+				for (int j = 0; j < n; j++) {
+					row.add(i * n + j);
+				}
+				nested.add(row);
+			}
+		}
+
+		System.out.printf(Locale.ROOT, "%d x %d matrix%n", n, n);
+		for (int round = 0; round < ROUNDS; round++) {
+			long nestedNanos = nested == null ? -1 : timeNested(nested, n);
+			long naiveNanos = timeNaive(flat, n);
+			long tiledNanos = timeTiled(flat, n);
+			if (round == ROUNDS - 1) {
+				if (nestedNanos >= 0) {
+					row("nested", nestedNanos, n);
+				}
+				row("flat naive", naiveNanos, n);
+				row("flat tiled", tiledNanos, n);
+			}
+		}
+		System.out.println("sink " + sink);
+	}
+
+	private static void row(String name, long nanos, int n) {
+		double cells = (double) n * n;
+		System.out.printf(Locale.ROOT, "%-10s %8.2f ms %7.2f ns/cell %6.2f GB/s%n", name, nanos / 1e6, nanos / cells,
+				2 * cells * Integer.BYTES / nanos);
+	}
+
+	private static long timeNested(ArrayList<ArrayList<Integer>> nums, int n) {
+		long start = System.nanoTime();
+		for (int i = 0; i < n; i++) {
+			for (int j = i; j < n; j++) {
+				int temp = nums.get(i).get(j);
+				nums.get(i).set(j, nums.get(j).get(i));
+				nums.get(j).set(i, temp);
+			}
+		}
+		for (int i = 0; i < n; i++) {
+			Collections.reverse(nums.get(i));
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += nums.get(0).get(n - 1);
+		return elapsed;
+	}
+
+	private static long timeNaive(int[] m, int n) {
+		long start = System.nanoTime();
+		for (int i = 0; i < n; i++) {
+			for (int j = i + 1; j < n; j++) {
+				int t = m[i * n + j];
+				m[i * n + j] = m[j * n + i];
+				m[j * n + i] = t;
+			}
+		}
+		for (int i = 0; i < n; i++) {
+			for (int l = i * n, r = l + n - 1; l < r; l++, r--) {
+				int t = m[l];
+				m[l] = m[r];
+				m[r] = t;
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += m[n - 1];
+		return elapsed;
+	}
+
+	private static long timeTiled(int[] m, int n) {
+		long start = System.nanoTime();
+		MatrixRotation.rotateClockwise(m, n);
+		long elapsed = System.nanoTime() - start;
+		sink += m[n - 1];
+		return elapsed;
+	}
+}
@@ -0,0 +1,316 @@
+package com.collections;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+
+/**
+ * Largest sum contiguous subarray, with its bounds, sequentially, in parallel
+ * or incrementally.
+ *
+ * Everything is built on a summary of a range [from, to): its total, its best
+ * prefix, its best suffix and its best subarray, each with their indices. Two
+ * adjacent summaries combine in O(1): the best subarray of the joined range is
+ * the left one's, the right one's, or the left suffix followed by the right
+ * prefix. So ranges can be summarized independently and joined in any
+ * grouping, which is what the fork-join mode and the chunked streaming mode
+ * do.
+ *
+ * Every mode returns the same subarray as Kadane's scan: the largest sum,
+ * among equal sums the one that ends first, and among those the longest. The
+ * input must not be empty; the answer always holds at least one element.
+ */
+public class MaxSubarraySum implements IntConsumer {
+
+	// elements per leaf task in the parallel mode
+	private static final int CHUNK = 1 << 18;
+	// below this many elements the parallel mode just runs sequentially
+	private static final int PARALLEL_THRESHOLD = 1 << 20;
+
+	private final Summary summary = new Summary(0);
+
+	/**
+	 * Kadane's scan over the whole array.
+	 */
+	public static Subarray max(int[] a) {
+		return max(a, 0, a.length);
+	}
+
+	public static Subarray max(int[] a, int from, int to) {
+		checkRange(a, from, to);
+		return summarize(a, from, to).best();
+	}
+
+	/**
+	 * Parallel form of {@link #max(int[])}: the array is cut into chunks that
+	 * are summarized on the common fork-join pool and combined pairwise on the
+	 * way back up.
+	 */
+	public static Subarray parallelMax(int[] a) {
+		return parallelMax(a, 0, a.length);
+	}
+
+	public static Subarray parallelMax(int[] a, int from, int to) {
+		checkRange(a, from, to);
+		return parallelSummarize(a, from, to).best();
+	}
+
+	private static void checkRange(int[] a, int from, int to) {
+		if (from < 0 || to > a.length || from > to) {
+			throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + a.length);
+		}
+		if (from == to) {
+			throw new IllegalArgumentException("Empty range has no subarray");
+		}
+	}
+
+	private static Summary summarize(int[] a, int from, int to) {
+		Summary summary = new Summary(from);
+		summary.scan(a, from, to);
+		return summary;
+	}
+
+	private static Summary parallelSummarize(int[] a, int from, int to) {
+		if (to - from < PARALLEL_THRESHOLD) {
+			return summarize(a, from, to);
+		}
+		return ForkJoinPool.commonPool().invoke(new SummaryTask(a, from, to));
+	}
+
+	/**
+	 * Appends {@code value} to the stream.
+	 */
+	public void add(int value) {
+		summary.append(value);
+	}
+
+	@Override
+	public void accept(int value) {
+		add(value);
+	}
+
+	/**
+	 * Appends a chunk of the stream. Large chunks are summarized in parallel
+	 * before being joined to what came before.
+	 */
+	public void add(int[] chunk, int from, int to) {
+		if (from < 0 || to > chunk.length || from > to) {
+			throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + chunk.length);
+		}
+		if ((long) summary.to + (to - from) > Integer.MAX_VALUE) {
+			throw new IllegalStateException("Too many elements");
+		}
+		if (to - from < PARALLEL_THRESHOLD) {
+			summary.scan(chunk, from, to);
+			return;
+		}
+		Summary part = parallelSummarize(chunk, from, to);
+		part.shift(summary.to - from);
+		summary.combine(part);
+	}
+
+	/**
+	 * Best subarray among the elements added so far, with positions counted
+	 * from the first element of the stream.
+	 *
+	 * @throws IllegalStateException if nothing has been added
+	 */
+	public Subarray best() {
+		if (summary.isEmpty()) {
+			throw new IllegalStateException("No elements added");
+		}
+		return summary.best();
+	}
+
+	/**
+	 * Number of elements added so far.
+	 */
+	public int elements() {
+		return summary.to;
+	}
+
+	/**
+	 * Total, best prefix, best suffix and best subarray of the range [from,
+	 * to). The suffix is kept as the smallest prefix sum strictly inside the
+	 * range, relative to its start, and where it occurs: the best suffix starts
+	 * there and sums to total minus that.
+	 */
+	private static final class Summary {
+		int from;
+		int to;
+		long total;
+		long maxPrefix = Long.MIN_VALUE;
+		int maxPrefixEnd;
+		long minPrefix = Long.MAX_VALUE;
+		int minPrefixAt;
+		long best = Long.MIN_VALUE;
+		int bestStart;
+		int bestEnd;
+
+		Summary(int from) {
+			this.from = from;
+			this.to = from;
+		}
+
+		boolean isEmpty() {
+			return to == from;
+		}
+
+		Subarray best() {
+			return new Subarray(bestStart, bestEnd, best);
+		}
+
+		void append(int value) {
+			if (to == Integer.MAX_VALUE) {
+				throw new IllegalStateException("Too many elements");
+			}
+			if (total < minPrefix) {
+				minPrefix = total;
+				minPrefixAt = to;
+			}
+			total += value;
+			to++;
+			if (total - minPrefix > best) {
+				best = total - minPrefix;
+				bestStart = minPrefixAt;
+				bestEnd = to;
+			}
+			if (total > maxPrefix) {
+				maxPrefix = total;
+				maxPrefixEnd = to;
+			}
+		}
+
+		/**
+		 * Appends a[from, to), which take the positions after this range. The
+		 * same steps as {@link #append(int)} with the state held in locals.
+		 */
+		void scan(int[] a, int from, int to) {
+			if ((long) this.to + (to - from) > Integer.MAX_VALUE) {
+				throw new IllegalStateException("Too many elements");
+			}
+			int position = this.to;
+			long total = this.total;
+			long minPrefix = this.minPrefix;
+			int minPrefixAt = this.minPrefixAt;
+			long maxPrefix = this.maxPrefix;
+			int maxPrefixEnd = this.maxPrefixEnd;
+			long best = this.best;
+			int bestStart = this.bestStart;
+			int bestEnd = this.bestEnd;
+			for (int i = from; i < to; i++) {
+				if (total < minPrefix) {
+					minPrefix = total;
+					minPrefixAt = position;
+				}
+				total += a[i];
+				position++;
+				if (total - minPrefix > best) {
+					best = total - minPrefix;
+					bestStart = minPrefixAt;
+					bestEnd = position;
+				}
+				if (total > maxPrefix) {
+					maxPrefix = total;
+					maxPrefixEnd = position;
+				}
+			}
+			this.to = position;
+			this.total = total;
+			this.minPrefix = minPrefix;
+			this.minPrefixAt = minPrefixAt;
+			this.maxPrefix = maxPrefix;
+			this.maxPrefixEnd = maxPrefixEnd;
+			this.best = best;
+			this.bestStart = bestStart;
+			this.bestEnd = bestEnd;
+		}
+
+		/**
+		 * Moves every position by {@code delta}.
+		 */
+		void shift(int delta) {
+			from += delta;
+			to += delta;
+			maxPrefixEnd += delta;
+			minPrefixAt += delta;
+			bestStart += delta;
+			bestEnd += delta;
+		}
+
+		/**
+		 * Joins the summary of the range that starts where this one ends.
+		 */
+		void combine(Summary right) {
+			if (right.isEmpty()) {
+				return;
+			}
+			if (isEmpty()) {
+				copy(right);
+				return;
+			}
+			// the suffix of this range followed by the prefix of the right one
+			offer(total - minPrefix + right.maxPrefix, minPrefixAt, right.maxPrefixEnd);
+			offer(right.best, right.bestStart, right.bestEnd);
+			// ties keep the left side: the earlier end, the earlier start
+			if (total + right.maxPrefix > maxPrefix) {
+				maxPrefix = total + right.maxPrefix;
+				maxPrefixEnd = right.maxPrefixEnd;
+			}
+			if (total + right.minPrefix < minPrefix) {
+				minPrefix = total + right.minPrefix;
+				minPrefixAt = right.minPrefixAt;
+			}
+			total += right.total;
+			to = right.to;
+		}
+
+		private void offer(long sum, int start, int end) {
+			if (sum > best || sum == best && (end < bestEnd || end == bestEnd && start < bestStart)) {
+				best = sum;
+				bestStart = start;
+				bestEnd = end;
+			}
+		}
+
+		private void copy(Summary other) {
+			from = other.from;
+			to = other.to;
+			total = other.total;
+			maxPrefix = other.maxPrefix;
+			maxPrefixEnd = other.maxPrefixEnd;
+			minPrefix = other.minPrefix;
+			minPrefixAt = other.minPrefixAt;
+			best = other.best;
+			bestStart = other.bestStart;
+			bestEnd = other.bestEnd;
+		}
+	}
+
+	private static final class SummaryTask extends RecursiveTask<Summary> {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] a;
+		private final int from;
+		private final int to;
+
+		SummaryTask(int[] a, int from, int to) {
+			this.a = a;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Summary compute() {
+			if (to - from <= CHUNK) {
+				return summarize(a, from, to);
+			}
+			int mid = (from + to) >>> 1;
+			SummaryTask right = new SummaryTask(a, mid, to);
+			right.fork();
+			Summary left = new SummaryTask(a, from, mid).compute();
+			left.combine(right.join());
+			return left;
+		}
+	}
+}
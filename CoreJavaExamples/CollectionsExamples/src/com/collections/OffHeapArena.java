@@ -0,0 +1,60 @@
+package com.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Owns a group of {@link OffHeapIntVector}s and closes them together, so the
+ * off-heap data of one run has a single, scoped lifetime:
+ *
+ * <pre>
+ * try (OffHeapArena arena = new OffHeapArena()) {
+ *     OffHeapIntVector nums = arena.newVector();
+ *     ...
+ * } // every vector allocated here is closed
+ * </pre>
+ */
+public class OffHeapArena implements AutoCloseable {
+
+	private final List<OffHeapIntVector> vectors = new ArrayList<>();
+	private boolean closed;
+
+	public OffHeapIntVector newVector() {
+		return register(new OffHeapIntVector());
+	}
+
+	public OffHeapIntVector newVector(int chunkShift) {
+		return register(new OffHeapIntVector(chunkShift));
+	}
+
+	private OffHeapIntVector register(OffHeapIntVector vector) {
+		if (closed) {
+			throw new IllegalStateException("Arena is closed");
+		}
+		vectors.add(vector);
+		return vector;
+	}
+
+	/**
+	 * Off-heap bytes reserved by every vector still open in this arena.
+	 */
+	public long reservedBytes() {
+		long total = 0;
+		for (OffHeapIntVector vector : vectors) {
+			total += vector.reservedBytes();
+		}
+		return total;
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		for (OffHeapIntVector vector : vectors) {
+			vector.close();
+		}
+		vectors.clear();
+	}
+}
@@ -0,0 +1,466 @@
+package com.collections;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Growable int list stored outside the Java heap, for datasets too large for
+ * an {@link IntArrayList}.
+ *
+ * Elements live in fixed-size chunks of direct memory, so growing never
+ * copies existing data and indexes are longs. The heap only holds the chunk
+ * table, which keeps heap usage and GC work flat however many elements are
+ * stored. Operations mirror the ArrayList problems: add, insert, update,
+ * remove, search and sort.
+ *
+ * The JVM caps direct memory at -XX:MaxDirectMemorySize, which defaults to the
+ * maximum heap size (-Xmx). With default flags a vector therefore holds no
+ * more than the heap could. To go past it, raise the cap, for example
+ * {@code java -Xmx1g -XX:MaxDirectMemorySize=16g ...}. Allocating past the
+ * cap fails with OutOfMemoryError: Cannot reserve direct buffer memory.
+ *
+ * A vector must be closed when done, directly or through the
+ * {@link OffHeapArena} that created it. Closing makes further access fail and
+ * frees every chunk right away. Direct ByteBuffers have no public free call
+ * before the FFM API, so this goes through sun.misc.Unsafe.invokeCleaner,
+ * the hook the JDK's own buffer cleanup uses. On a JVM without it, closing
+ * only drops the chunks, and their memory returns when the GC collects them.
+ * {@link #freesOnClose()} says which of the two applies.
+ */
+public class OffHeapIntVector implements AutoCloseable {
+
+	private static final int DEFAULT_CHUNK_SHIFT = 20; // 1M ints = 4 MB per chunk
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+	// Unsafe.invokeCleaner(ByteBuffer) bound to the Unsafe instance, or null
+	private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+	private final int chunkShift;
+	private final int chunkSize;
+	private final int chunkMask;
+	private ByteBuffer[] blocks = new ByteBuffer[0]; // the direct buffers, to free them
+	private IntBuffer[] chunks = new IntBuffer[0]; // int views of the blocks
+	private int chunkCount;
+	private long size;
+	private boolean closed;
+
+	public OffHeapIntVector() {
+		this(DEFAULT_CHUNK_SHIFT);
+	}
+
+	/**
+	 * @param chunkShift each chunk holds 2^chunkShift ints, between 2^4 and 2^28
+	 */
+	public OffHeapIntVector(int chunkShift) {
+		if (chunkShift < 4 || chunkShift > 28) {
+			throw new IllegalArgumentException("chunkShift must be between 4 and 28: " + chunkShift);
+		}
+		this.chunkShift = chunkShift;
+		this.chunkSize = 1 << chunkShift;
+		this.chunkMask = chunkSize - 1;
+	}
+
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("Vector is closed");
+		}
+	}
+
+	private void ensureCapacity(long minCapacity) {
+		ensureOpen();
+		while ((long) chunkCount << chunkShift < minCapacity) {
+			if (chunkCount == chunks.length) {
+				blocks = Arrays.copyOf(blocks, Math.max(4, chunkCount * 2));
+				chunks = Arrays.copyOf(chunks, blocks.length);
+			}
+			ByteBuffer bytes = ByteBuffer.allocateDirect(chunkSize * Integer.BYTES).order(ByteOrder.nativeOrder());
+			blocks[chunkCount] = bytes;
+			chunks[chunkCount++] = bytes.asIntBuffer();
+		}
+	}
+
+	private void checkIndex(long index) {
+		ensureOpen();
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	public long size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Off-heap bytes currently reserved by this vector.
+	 */
+	public long reservedBytes() {
+		return ((long) chunkCount << chunkShift) * Integer.BYTES;
+	}
+
+	public void add(int value) {
+		ensureCapacity(size + 1);
+		chunks[(int) (size >>> chunkShift)].put((int) (size & chunkMask), value);
+		size++;
+	}
+
+	/**
+	 * Inserts {@code value} at {@code index}, shifting later elements right.
+	 * O(n - index), like ArrayList.
+	 */
+	public void add(long index, int value) {
+		ensureOpen();
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		ensureCapacity(size + 1);
+		shiftRight(index);
+		size++;
+		put(index, value);
+	}
+
+	public int get(long index) {
+		checkIndex(index);
+		return chunks[(int) (index >>> chunkShift)].get((int) (index & chunkMask));
+	}
+
+	/**
+	 * Replaces the element at {@code index} and returns the old value.
+	 */
+	public int set(long index, int value) {
+		checkIndex(index);
+		int old = at(index);
+		put(index, value);
+		return old;
+	}
+
+	/**
+	 * Removes the element at {@code index} and returns it.
+	 */
+	public int remove(long index) {
+		checkIndex(index);
+		int old = at(index);
+		shiftLeft(index);
+		size--;
+		return old;
+	}
+
+	/**
+	 * Removes the first occurrence of {@code value}.
+	 *
+	 * @return true if the value was found
+	 */
+	public boolean removeValue(int value) {
+		long index = indexOf(value);
+		if (index < 0) {
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	/**
+	 * Removes every element matching {@code filter}. The filter is run over
+	 * every element first, marking matches in an off-heap bit set, one bit
+	 * per element. Only then does one compacting pass drop them, so a filter
+	 * that throws leaves the vector as it was. The bits come in one direct
+	 * block per data chunk that has a match, 1/32 of the chunk's size, and are
+	 * freed before returning. The heap only holds a table of those blocks, as
+	 * it does for the chunks.
+	 *
+	 * @return number of elements removed
+	 */
+	public long removeIf(IntPredicate filter) {
+		ensureOpen();
+		long end = size;
+		ByteBuffer[] markBlocks = new ByteBuffer[chunkCount];
+		LongBuffer[] marks = new LongBuffer[chunkCount]; // bit i of chunk c marks its element i
+		long first = -1;
+		try {
+			for (long i = 0; i < end; i++) {
+				if (filter.test(at(i))) {
+					int c = (int) (i >>> chunkShift);
+					if (marks[c] == null) {
+						markBlocks[c] = ByteBuffer.allocateDirect(Math.max(Long.BYTES, chunkSize >>> 3))
+								.order(ByteOrder.nativeOrder());
+						marks[c] = markBlocks[c].asLongBuffer();
+					}
+					int bit = (int) (i & chunkMask);
+					marks[c].put(bit >>> 6, marks[c].get(bit >>> 6) | 1L << bit);
+					if (first < 0) {
+						first = i;
+					}
+				}
+			}
+			if (first < 0) {
+				return 0;
+			}
+			ensureOpen();
+			long kept = first;
+			for (long i = first; i < end; i++) {
+				LongBuffer chunkMarks = marks[(int) (i >>> chunkShift)];
+				int bit = (int) (i & chunkMask);
+				if (chunkMarks == null || (chunkMarks.get(bit >>> 6) & 1L << bit) == 0) {
+					put(kept++, at(i));
+				}
+			}
+			size = kept;
+			return end - kept;
+		} finally {
+			for (ByteBuffer block : markBlocks) {
+				if (block != null) {
+					free(block);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Empties the vector but keeps its chunks for reuse.
+	 */
+	public void clear() {
+		ensureOpen();
+		size = 0;
+	}
+
+	public long indexOf(int value) {
+		ensureOpen();
+		for (int c = 0; c < chunkCount; c++) {
+			IntBuffer chunk = chunks[c];
+			long base = (long) c << chunkShift;
+			int limit = (int) Math.min(chunkSize, size - base);
+			for (int i = 0; i < limit; i++) {
+				if (chunk.get(i) == value) {
+					return base + i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	public long lastIndexOf(int value) {
+		ensureOpen();
+		for (long i = size - 1; i >= 0; i--) {
+			if (at(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public boolean contains(int value) {
+		return indexOf(value) >= 0;
+	}
+
+	public void forEach(IntConsumer action) {
+		ensureOpen();
+		for (int c = 0; c < chunkCount; c++) {
+			IntBuffer chunk = chunks[c];
+			long base = (long) c << chunkShift;
+			int limit = (int) Math.min(chunkSize, size - base);
+			for (int i = 0; i < limit; i++) {
+				action.accept(chunk.get(i));
+			}
+		}
+	}
+
+	/**
+	 * Sorts ascending in place with a median-of-three quicksort. Recursing into
+	 * the smaller side keeps the stack at O(log n); nothing is copied to the
+	 * heap.
+	 */
+	public void sort() {
+		ensureOpen();
+		quickSort(0, size - 1);
+	}
+
+	/**
+	 * Copies the elements into a heap array, for vectors small enough to fit.
+	 */
+	public int[] toArray() {
+		ensureOpen();
+		if (size > Integer.MAX_VALUE - 8) {
+			throw new IllegalStateException("Vector of " + size + " ints does not fit in an int[]");
+		}
+		int[] values = new int[(int) size];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = at(i);
+		}
+		return values;
+	}
+
+	/**
+	 * Marks the vector closed and frees its chunks; see the class comment for
+	 * JVMs where freeing has to wait for the GC.
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		ByteBuffer[] freed = blocks;
+		int count = chunkCount;
+		blocks = new ByteBuffer[0];
+		chunks = new IntBuffer[0];
+		chunkCount = 0;
+		size = 0;
+		for (int c = 0; c < count; c++) {
+			free(freed[c]);
+		}
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Whether {@link #close()} frees native memory at once on this JVM, rather
+	 * than leaving it to the GC.
+	 */
+	public static boolean freesOnClose() {
+		return INVOKE_CLEANER != null;
+	}
+
+	private static MethodHandle findCleaner() {
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			return MethodHandles.lookup()
+					.findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+					.bindTo(theUnsafe.get(null));
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static void free(ByteBuffer block) {
+		if (INVOKE_CLEANER == null) {
+			return;
+		}
+		try {
+			INVOKE_CLEANER.invokeExact(block);
+		} catch (Throwable e) {
+			throw new IllegalStateException("Could not free a direct buffer", e);
+		}
+	}
+
+	private int at(long index) {
+		return chunks[(int) (index >>> chunkShift)].get((int) (index & chunkMask));
+	}
+
+	private void put(long index, int value) {
+		chunks[(int) (index >>> chunkShift)].put((int) (index & chunkMask), value);
+	}
+
+	/**
+	 * Moves [index, size) to [index + 1, size + 1) one chunk at a time, from the
+	 * back. Capacity for size + 1 must already exist.
+	 */
+	private void shiftRight(long index) {
+		long i = size; // highest destination still to fill
+		while (i > index) {
+			int c = (int) (i >>> chunkShift);
+			IntBuffer chunk = chunks[c];
+			long chunkStart = (long) c << chunkShift;
+			long lowest = Math.max(index + 1, chunkStart);
+			int lo = (int) (lowest - chunkStart);
+			for (int p = (int) (i - chunkStart); p > lo; p--) {
+				chunk.put(p, chunk.get(p - 1));
+			}
+			chunk.put(lo, lowest == chunkStart ? chunks[c - 1].get(chunkMask) : chunk.get(lo - 1));
+			i = lowest - 1;
+		}
+	}
+
+	/**
+	 * Moves [index + 1, size) to [index, size - 1) one chunk at a time.
+	 */
+	private void shiftLeft(long index) {
+		long i = index; // lowest destination still to fill
+		while (i < size - 1) {
+			int c = (int) (i >>> chunkShift);
+			IntBuffer chunk = chunks[c];
+			long chunkStart = (long) c << chunkShift;
+			long highest = Math.min(size - 2, chunkStart + chunkMask);
+			int hi = (int) (highest - chunkStart);
+			for (int p = (int) (i - chunkStart); p < hi; p++) {
+				chunk.put(p, chunk.get(p + 1));
+			}
+			chunk.put(hi, hi == chunkMask ? chunks[c + 1].get(0) : chunk.get(hi + 1));
+			i = highest + 1;
+		}
+	}
+
+	private void quickSort(long lo, long hi) {
+		while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+			long mid = lo + ((hi - lo) >>> 1);
+			// order lo, mid, hi so the median ends up at mid
+			if (at(mid) < at(lo)) {
+				swap(mid, lo);
+			}
+			if (at(hi) < at(lo)) {
+				swap(hi, lo);
+			}
+			if (at(hi) < at(mid)) {
+				swap(hi, mid);
+			}
+			int pivot = at(mid);
+
+			long i = lo;
+			long j = hi;
+			while (i <= j) {
+				while (at(i) < pivot) {
+					i++;
+				}
+				while (at(j) > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					swap(i, j);
+					i++;
+					j--;
+				}
+			}
+
+			if (j - lo < hi - i) {
+				quickSort(lo, j);
+				lo = i;
+			} else {
+				quickSort(i, hi);
+				hi = j;
+			}
+		}
+		insertionSort(lo, hi);
+	}
+
+	private void insertionSort(long lo, long hi) {
+		for (long i = lo + 1; i <= hi; i++) {
+			int value = at(i);
+			long j = i - 1;
+			while (j >= lo && at(j) > value) {
+				put(j + 1, at(j));
+				j--;
+			}
+			put(j + 1, value);
+		}
+	}
+
+	private void swap(long i, long j) {
+		int temp = at(i);
+		put(i, at(j));
+		put(j, temp);
+	}
+}
@@ -0,0 +1,186 @@
+package com.collections;
+
+/**
+ * Table bookkeeping shared by the open-addressing collections
+ * ({@link IntIntHashMap}, {@link IntHashSet}, {@link LongIntHashMap},
+ * {@link LongLongHashMap}): a power-of-two table kept at most half full,
+ * Fibonacci hashing, linear probing, backward-shift deletion and growth by
+ * doubling up to {@link #MAX_CAPACITY} slots.
+ *
+ * Subclasses own the key array, and the value array if they have one, and say
+ * how to allocate them and move entries between slots. Key 0 marks an empty
+ * slot, so the real key 0 never enters the table; {@link #hasZeroKey} records
+ * it and subclasses keep its value on the side.
+ */
+abstract class OpenHashTable {
+
+	static final int DEFAULT_CAPACITY = 16;
+	static final float LOAD_FACTOR = 0.5f;
+	static final int MAX_CAPACITY = 1 << 30;
+
+	private final int hashBits; // width of the keys: 32 or 64
+	int mask;
+	int shift;
+	int assigned; // occupied slots, excluding the zero key
+	private int resizeAt;
+	boolean hasZeroKey;
+
+	OpenHashTable(int hashBits) {
+		this.hashBits = hashBits;
+	}
+
+	/**
+	 * Smallest table holding {@code expectedSize} keys without growing.
+	 */
+	final int capacityFor(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("expectedSize must not be negative: " + expectedSize);
+		}
+		long needed = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+		if (needed > MAX_CAPACITY) {
+			throw new IllegalArgumentException("Too many keys for " + getClass().getSimpleName() + ": " + expectedSize);
+		}
+		return Math.max(DEFAULT_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+	}
+
+	/**
+	 * Switches to an empty table of {@code capacity} slots, a power of two.
+	 */
+	final void allocate(int capacity) {
+		mask = capacity - 1;
+		shift = hashBits - Integer.numberOfTrailingZeros(capacity);
+		resizeAt = (int) (capacity * LOAD_FACTOR);
+		allocateSlots(capacity);
+	}
+
+	abstract void allocateSlots(int capacity);
+
+	/**
+	 * Allocates a table of {@code capacity} slots and moves every entry into
+	 * it.
+	 */
+	abstract void rehash(int capacity);
+
+	/**
+	 * Moves the entry in slot {@code from} to the empty slot {@code to}.
+	 */
+	abstract void move(int from, int to);
+
+	abstract void clearSlot(int slot);
+
+	/**
+	 * Home slot of an int key. Fibonacci hashing: multiply by 2^32 / golden
+	 * ratio and keep the top bits, which spreads runs of consecutive keys
+	 * across the table.
+	 */
+	final int slot(int key) {
+		return (key * 0x9E3779B9) >>> shift;
+	}
+
+	/**
+	 * Home slot of a long key, with the 64-bit golden ratio constant.
+	 */
+	final int slot(long key) {
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+	}
+
+	/**
+	 * Slot holding {@code key}, or {@code -1 - slot} of the empty slot where
+	 * it would go. The key must not be 0.
+	 */
+	final int probe(int[] keys, int key) {
+		for (int i = slot(key);; i = (i + 1) & mask) {
+			int k = keys[i];
+			if (k == key) {
+				return i;
+			}
+			if (k == 0) {
+				return -1 - i;
+			}
+		}
+	}
+
+	final int probe(long[] keys, long key) {
+		for (int i = slot(key);; i = (i + 1) & mask) {
+			long k = keys[i];
+			if (k == key) {
+				return i;
+			}
+			if (k == 0) {
+				return -1 - i;
+			}
+		}
+	}
+
+	/**
+	 * First empty slot from the home slot of {@code key}, for rehashing into a
+	 * table known not to hold it.
+	 */
+	final int freeSlot(int[] keys, int key) {
+		int i = slot(key);
+		while (keys[i] != 0) {
+			i = (i + 1) & mask;
+		}
+		return i;
+	}
+
+	final int freeSlot(long[] keys, long key) {
+		int i = slot(key);
+		while (keys[i] != 0) {
+			i = (i + 1) & mask;
+		}
+		return i;
+	}
+
+	/**
+	 * Counts the key just stored in the empty slot {@code slot}, doubling the
+	 * table when it reaches the load factor.
+	 *
+	 * @throws IllegalStateException if the table would have to grow past
+	 *                               {@link #MAX_CAPACITY} slots; the key is
+	 *                               taken out again first
+	 */
+	final void added(int slot) {
+		if (++assigned >= resizeAt) {
+			int capacity = mask + 1;
+			// checked before shifting: MAX_CAPACITY << 1 overflows to a negative size
+			if (capacity == MAX_CAPACITY) {
+				clearSlot(slot);
+				assigned--;
+				throw new IllegalStateException(getClass().getSimpleName() + " is full at " + size() + " keys");
+			}
+			rehash(capacity << 1);
+		}
+	}
+
+	/**
+	 * Empties slot {@code gap} of an int-keyed table and fills the hole by
+	 * moving back any later entry of the same cluster whose home slot is at or
+	 * before it, so no tombstones are left.
+	 */
+	final void removeAt(int[] keys, int gap) {
+		int i = gap;
+		while (true) {
+			i = (i + 1) & mask;
+			int k = keys[i];
+			if (k == 0) {
+				break;
+			}
+			// distance travelled from home to i vs from home to gap, both wrapping
+			if (((i - slot(k)) & mask) >= ((i - gap) & mask)) {
+				move(i, gap);
+				gap = i;
+			}
+		}
+		clearSlot(gap);
+		assigned--;
+	}
+
+	public int size() {
+		return assigned + (hasZeroKey ? 1 : 0);
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+}
@@ -0,0 +1,119 @@
+package com.collections;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Palindrome checks that report the first mismatching pair, for LinkedList
+ * Problem 3.3.
+ *
+ * Every method compares the pair (i, n - 1 - i) for i = 0, 1, ... and returns
+ * the first i whose two values differ, or -1 if the sequence is a palindrome.
+ * The mismatching values are then {@code a[i]} and {@code a[n - 1 - i]}.
+ *
+ * The list version walks a forward and a backward iterator towards each
+ * other, so it is one O(n) pass on a LinkedList too (indexed get is O(n) per
+ * call there), and compares values with {@code equals} rather than {@code ==},
+ * which only works for Integers inside the cache.
+ */
+public final class PalindromeChecker {
+
+	// pairs per task in the parallel mode
+	private static final int CHUNK = 1 << 16;
+	// below this many pairs the parallel mode just runs sequentially
+	private static final int PARALLEL_THRESHOLD = 1 << 20;
+
+	private PalindromeChecker() {
+	}
+
+	public static int firstMismatch(int[] a) {
+		return firstMismatch(a, 0, a.length / 2, a.length);
+	}
+
+	/**
+	 * First mismatching pair index among the pairs [fromPair, toPair) of an
+	 * array whose length is {@code n}.
+	 */
+	private static int firstMismatch(int[] a, int fromPair, int toPair, int n) {
+		for (int i = fromPair, j = n - 1 - fromPair; i < toPair; i++, j--) {
+			if (a[i] != a[j]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public static int firstMismatch(IntArrayList list) {
+		return firstMismatch(list.elements(), 0, list.size() / 2, list.size());
+	}
+
+	/**
+	 * Single pass with one iterator from each end, meeting in the middle.
+	 */
+	public static <T> int firstMismatch(List<T> list) {
+		int pairs = list.size() / 2;
+		Iterator<T> forward = list.iterator();
+		ListIterator<T> backward = list.listIterator(list.size());
+		for (int i = 0; i < pairs; i++) {
+			T front = forward.next();
+			T back = backward.previous();
+			if (front == null ? back != null : !front.equals(back)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Parallel form of {@link #firstMismatch(int[])} for very long arrays. The
+	 * pairs are cut into chunks checked on the common fork-join pool. Once a
+	 * chunk finds a mismatch, chunks further out are skipped, and the smallest
+	 * index found is the answer, so the result matches the sequential one.
+	 */
+	public static int parallelFirstMismatch(int[] a) {
+		int pairs = a.length / 2;
+		if (pairs < PARALLEL_THRESHOLD) {
+			return firstMismatch(a);
+		}
+		AtomicInteger first = new AtomicInteger(Integer.MAX_VALUE);
+		ForkJoinPool.commonPool().invoke(new ChunkTask(a, 0, pairs, first));
+		int found = first.get();
+		return found == Integer.MAX_VALUE ? -1 : found;
+	}
+
+	private static final class ChunkTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] a;
+		private final int fromPair;
+		private final int toPair;
+		private final AtomicInteger first;
+
+		ChunkTask(int[] a, int fromPair, int toPair, AtomicInteger first) {
+			this.a = a;
+			this.fromPair = fromPair;
+			this.toPair = toPair;
+			this.first = first;
+		}
+
+		@Override
+		protected void compute() {
+			if (fromPair >= first.get()) {
+				return; // a mismatch further in has already been found
+			}
+			if (toPair - fromPair <= CHUNK) {
+				int i = firstMismatch(a, fromPair, toPair, a.length);
+				if (i >= 0) {
+					first.accumulateAndGet(i, Math::min);
+				}
+				return;
+			}
+			int mid = (fromPair + toPair) >>> 1;
+			invokeAll(new ChunkTask(a, fromPair, mid, first), new ChunkTask(a, mid, toPair, first));
+		}
+	}
+}
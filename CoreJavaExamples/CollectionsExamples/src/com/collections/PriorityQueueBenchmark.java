@@ -0,0 +1,156 @@
+package com.collections;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Compares {@link IndexedIntPriorityQueue} with {@code java.util.PriorityQueue}
+ * on the Problem 2.3 workload. The PriorityQueue holds one entry object per
+ * element, ordered by priority and then insertion sequence, which is what FIFO
+ * ties need there.
+ *
+ * Two workloads:
+ * <ul>
+ * <li>mixed: a random stream of INSERT (60%), REMOVE (30%) and PEEK (10%)</li>
+ * <li>decrease-key: fill the queue, then raise random elements' priority. The
+ * PriorityQueue has no decrease-key, so it does remove(Object) and add, which
+ * is O(n); it gets fewer operations and is reported per operation.</li>
+ * </ul>
+ *
+ * Usage: java com.collections.PriorityQueueBenchmark [operations] [queueSize]
+ */
+public class PriorityQueueBenchmark {
+
+	private static final int ROUNDS = 5;
+	private static long sink;
+
+	private static final class Entry {
+		final int value;
+		int priority;
+		final long sequence;
+
+		Entry(int value, int priority, long sequence) {
+			this.value = value;
+			this.priority = priority;
+			this.sequence = sequence;
+		}
+	}
+
+	private static final Comparator<Entry> ORDER = (a, b) -> a.priority != b.priority
+			? Integer.compare(a.priority, b.priority)
+			: Long.compare(a.sequence, b.sequence);
+
+	public static void main(String[] args) {
+		int operations = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		int queueSize = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+
+		Random random = new Random(42);
+		int[] ops = new int[operations];
+		int[] values = new int[operations];
+		int[] priorities = new int[operations];
+		for (int i = 0; i < operations; i++) {
+			int r = random.nextInt(10);
+			ops[i] = r < 6 ? 0 : r < 9 ? 1 : 2;
+			values[i] = random.nextInt();
+			priorities[i] = 1 + random.nextInt(1_000);
+		}
+
+		int decreases = Math.min(operations, 1_000_000);
+		int boxedDecreases = Math.min(decreases, 2_000);
+		int[] targets = new int[decreases];
+		for (int i = 0; i < decreases; i++) {
+			targets[i] = random.nextInt(queueSize);
+		}
+
+		System.out.printf(Locale.ROOT, "%d mixed operations, decrease-key on %d elements%n", operations, queueSize);
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			sink += mixedPrimitive(ops, values, priorities);
+			long primitiveMixed = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			sink += mixedBoxed(ops, values, priorities);
+			long boxedMixed = System.nanoTime() - start;
+
+			long primitiveDecrease = decreasePrimitive(queueSize, targets, decreases);
+			long boxedDecrease = decreaseBoxed(queueSize, targets, boxedDecreases);
+
+			if (round == ROUNDS - 1) {
+				row("mixed", (double) boxedMixed / operations, (double) primitiveMixed / operations);
+				row("decrease-key", (double) boxedDecrease / boxedDecreases,
+						(double) primitiveDecrease / decreases);
+			}
+		}
+		System.out.println("sink " + sink);
+	}
+
+	private static void row(String name, double boxedNanos, double primitiveNanos) {
+		System.out.printf(Locale.ROOT,
+				"%-13s PriorityQueue %10.1f ns/op   indexed heap %8.1f ns/op (%6.1f M ops/s)   %7.1fx%n", name,
+				boxedNanos, primitiveNanos, 1e3 / primitiveNanos, boxedNanos / primitiveNanos);
+	}
+
+	private static long mixedPrimitive(int[] ops, int[] values, int[] priorities) {
+		IndexedIntPriorityQueue queue = new IndexedIntPriorityQueue();
+		long checksum = 0;
+		for (int i = 0; i < ops.length; i++) {
+			if (ops[i] == 0) {
+				queue.insert(values[i], priorities[i]);
+			} else if (!queue.isEmpty()) {
+				checksum += ops[i] == 1 ? queue.poll() : queue.peek();
+			}
+		}
+		return checksum;
+	}
+
+	private static long mixedBoxed(int[] ops, int[] values, int[] priorities) {
+		PriorityQueue<Entry> queue = new PriorityQueue<>(ORDER);
+		long sequence = 0;
+		long checksum = 0;
+		for (int i = 0; i < ops.length; i++) {
+			if (ops[i] == 0) {
+				queue.add(new Entry(values[i], priorities[i], sequence++));
+			} else if (!queue.isEmpty()) {
+				checksum += ops[i] == 1 ? queue.poll().value : queue.peek().value;
+			}
+		}
+		return checksum;
+	}
+
+	private static long decreasePrimitive(int size, int[] targets, int count) {
+		IndexedIntPriorityQueue queue = new IndexedIntPriorityQueue(size);
+		int[] handles = new int[size];
+		for (int i = 0; i < size; i++) {
+			handles[i] = queue.insert(i, 1_000_000 + i);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < count; i++) {
+			int handle = handles[targets[i]];
+			queue.decreaseKey(handle, queue.priority(handle) - 1);
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += queue.peek();
+		return elapsed;
+	}
+
+	private static long decreaseBoxed(int size, int[] targets, int count) {
+		PriorityQueue<Entry> queue = new PriorityQueue<>(size, ORDER);
+		Entry[] entries = new Entry[size];
+		for (int i = 0; i < size; i++) {
+			entries[i] = new Entry(i, 1_000_000 + i, i);
+			queue.add(entries[i]);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < count; i++) {
+			Entry entry = entries[targets[i]];
+			queue.remove(entry);
+			entry.priority--;
+			queue.add(entry);
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += queue.peek().value;
+		return elapsed;
+	}
+}
@@ -0,0 +1,26 @@
+package com.collections;
+
+/**
+ * One runnable problem, split into the three phases the runner times
+ * separately: read the input, compute the answer, print it.
+ *
+ * Instances hold the parsed input and the answer between phases, so the
+ * registry creates a fresh instance for every run.
+ */
+public interface Problem {
+
+	/**
+	 * Reads the problem input, in the format given in its problem statement.
+	 */
+	void parse(FastReader in);
+
+	/**
+	 * Computes the answer from the parsed input. Must not print.
+	 */
+	void solve();
+
+	/**
+	 * Prints the answer computed by {@link #solve()}.
+	 */
+	void print(FastWriter out);
+}
@@ -0,0 +1,97 @@
+package com.collections;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Problems keyed by id. ArrayList problems use their number from
+ * {@link ArrayListProblemsSolution} ("6.1", "B.1"), LinkedList problems are
+ * prefixed with "ll." and the array problems from {@link DSAProblemSolving}
+ * use "dsa." plus a short name.
+ */
+public class ProblemRegistry {
+
+	private final Map<String, Supplier<Problem>> problems = new LinkedHashMap<>();
+	private final Map<String, String> titles = new LinkedHashMap<>();
+
+	public ProblemRegistry register(String id, String title, Supplier<Problem> factory) {
+		if (problems.containsKey(id)) {
+			throw new IllegalArgumentException("Problem already registered: " + id);
+		}
+		problems.put(id, factory);
+		titles.put(id, title);
+		return this;
+	}
+
+	public boolean contains(String id) {
+		return problems.containsKey(id);
+	}
+
+	/**
+	 * Returns a fresh instance of the problem registered under {@code id}.
+	 */
+	public Problem create(String id) {
+		Supplier<Problem> factory = problems.get(id);
+		if (factory == null) {
+			throw new IllegalArgumentException("Unknown problem: " + id);
+		}
+		return factory.get();
+	}
+
+	public String title(String id) {
+		return titles.get(id);
+	}
+
+	public Set<String> ids() {
+		return Collections.unmodifiableSet(problems.keySet());
+	}
+
+	/**
+	 * Registry with every problem that has been ported to {@link Problem}.
+	 */
+	public static ProblemRegistry defaults() {
+		ProblemRegistry registry = new ProblemRegistry();
+
+		registry.register("1.3", "Multiple ArrayLists Creation", ArrayListProblemsSolution.MultipleLists::new);
+		registry.register("2.3", "Insert and Delete Queries", ArrayListProblemsSolution.InsertDeleteQueries::new);
+		registry.register("3.3", "Nested ArrayList Query", ArrayListProblemsSolution.NestedListQuery::new);
+		registry.register("4.2", "Transform Elements", ArrayListProblemsSolution.TransformElements::new);
+		registry.register("5.2", "Remove All Occurrences", ArrayListProblemsSolution.RemoveAllOccurrences::new);
+		registry.register("6.1", "Element Exists", ArrayListProblemsSolution.ElementExists::new);
+		registry.register("6.2", "First and Last Position", ArrayListProblemsSolution.FirstLastPosition::new);
+		registry.register("6.3", "Search in Rotated Array", ArrayListProblemsSolution.SearchRotated::new);
+		registry.register("7.1", "Basic Sort", ArrayListProblemsSolution.BasicSort::new);
+		registry.register("7.3", "Multi-criteria Sorting", ArrayListProblemsSolution.MultiCriteriaSort::new);
+		registry.register("8.1", "SubList Operations", ArrayListProblemsSolution.SubListOperations::new);
+		registry.register("B.1", "Merge Two Sorted Lists", ArrayListProblemsSolution.MergeSortedLists::new);
+		registry.register("B.2", "Remove Duplicates and Sort", ArrayListProblemsSolution.RemoveDuplicatesSort::new);
+		registry.register("B.3", "Sliding Window Maximum", ArrayListProblemsSolution.SlidingWindowMaximum::new);
+
+		registry.register("ll.2.1", "Build Queue", LinkedListProblemsSolution.BuildQueue::new);
+		registry.register("ll.2.3", "Priority Queue Simulation", LinkedListProblemsSolution.PriorityQueueSimulation::new);
+		registry.register("ll.3.1", "Basic Remove Operations", LinkedListProblemsSolution.RemoveOperations::new);
+		registry.register("ll.3.2", "Deque Operations", LinkedListProblemsSolution.DequeOperations::new);
+		registry.register("ll.3.3", "Palindrome Checker", LinkedListProblemsSolution.PalindromeCheck::new);
+		registry.register("ll.4.1", "Queue Peek Operations", LinkedListProblemsSolution.PeekOperations::new);
+		registry.register("ll.4.2", "Sliding Window Maximum", LinkedListProblemsSolution.SlidingWindowMaximum::new);
+		registry.register("ll.4.3", "Recent Counter", LinkedListProblemsSolution.RecentCounterPings::new);
+
+		registry.register("dsa.max", "Largest Element", DSAProblemSolving.LargestElement::new);
+		registry.register("dsa.sort012", "Sort 0s, 1s and 2s", DSAProblemSolving.SortZeroOneTwo::new);
+		registry.register("dsa.majority", "Majority Element", DSAProblemSolving.MajorityElement::new);
+		registry.register("dsa.heavyhitters", "Elements Occurring More Than N/K Times",
+				DSAProblemSolving.HeavyHitterElements::new);
+		registry.register("dsa.kadane", "Maximum Subarray Sum", DSAProblemSolving.MaxSubarray::new);
+		registry.register("dsa.leaders", "Leaders in an Array", DSAProblemSolving.Leaders::new);
+		registry.register("dsa.subarraysum", "Count Subarrays with Sum K", DSAProblemSolving.SubarraySumCount::new);
+		registry.register("dsa.longestsum", "Longest Subarray with Sum K", DSAProblemSolving.LongestSubarrayWithSum::new);
+		registry.register("dsa.consecutive", "Longest Consecutive Sequence", DSAProblemSolving.LongestConsecutive::new);
+		registry.register("dsa.rotate", "Rotate Matrix 90 Degrees", DSAProblemSolving.RotateMatrix::new);
+		registry.register("dsa.spiral", "Spiral Order of a Matrix", DSAProblemSolving.SpiralOrder::new);
+
+		return registry;
+	}
+}
@@ -0,0 +1,153 @@
+package com.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line runner for problems in a {@link ProblemRegistry}.
+ *
+ * <pre>
+ * java Main &lt;id&gt;[,&lt;id&gt;...] [--input file] [--output file] [--repeat n]
+ * java Main --list
+ * </pre>
+ *
+ * Each run creates a fresh problem, reads the dataset with a
+ * {@link FastReader}, solves it and prints through a {@link FastWriter}. The
+ * three phases are timed separately and reported on stderr so results on
+ * stdout stay clean. Without --input the dataset is read from stdin once and
+ * replayed for every repeat.
+ */
+public class ProblemRunner {
+
+	private final ProblemRegistry registry;
+	private final PrintStream log;
+
+	public ProblemRunner(ProblemRegistry registry) {
+		this(registry, System.err);
+	}
+
+	public ProblemRunner(ProblemRegistry registry, PrintStream log) {
+		this.registry = registry;
+		this.log = log;
+	}
+
+	/**
+	 * Parses the command line and runs the selected problems.
+	 *
+	 * @return process exit code, 0 on success
+	 */
+	public int run(String[] args) throws IOException {
+		List<String> ids = new ArrayList<>();
+		Path input = null;
+		Path output = null;
+		int repeat = 1;
+
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			switch (arg) {
+			case "--list":
+				for (String id : registry.ids()) {
+					log.printf("%-12s %s%n", id, registry.title(id));
+				}
+				return 0;
+			case "--input":
+				input = Paths.get(value(args, ++i, arg));
+				break;
+			case "--output":
+				output = Paths.get(value(args, ++i, arg));
+				break;
+			case "--repeat":
+				repeat = Integer.parseInt(value(args, ++i, arg));
+				if (repeat < 1) {
+					throw new IllegalArgumentException("--repeat must be at least 1");
+				}
+				break;
+			default:
+				if (arg.startsWith("--")) {
+					throw new IllegalArgumentException("Unknown option: " + arg);
+				}
+				for (String id : arg.split(",")) {
+					if (!registry.contains(id)) {
+						throw new IllegalArgumentException("Unknown problem: " + id + " (use --list)");
+					}
+					ids.add(id);
+				}
+			}
+		}
+
+		if (ids.isEmpty()) {
+			log.println("Usage: <id>[,<id>...] [--input file] [--output file] [--repeat n] | --list");
+			return 1;
+		}
+
+		byte[] stdin = input == null ? System.in.readAllBytes() : null;
+		OutputStream sink = output == null ? System.out : Files.newOutputStream(output);
+		try {
+			for (String id : ids) {
+				runProblem(id, input, stdin, sink, repeat);
+			}
+		} finally {
+			if (output != null) {
+				sink.close();
+			}
+		}
+		return 0;
+	}
+
+	private void runProblem(String id, Path input, byte[] stdin, OutputStream sink, int repeat) throws IOException {
+		long[] parse = new long[repeat];
+		long[] solve = new long[repeat];
+		long[] print = new long[repeat];
+
+		for (int r = 0; r < repeat; r++) {
+			Problem problem = registry.create(id);
+			FastWriter out = new FastWriter(sink);
+
+			try (InputStream in = input == null ? new ByteArrayInputStream(stdin) : Files.newInputStream(input)) {
+				long start = System.nanoTime();
+				problem.parse(new FastReader(in));
+				parse[r] = System.nanoTime() - start;
+			}
+
+			long start = System.nanoTime();
+			problem.solve();
+			solve[r] = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			problem.print(out);
+			out.flush();
+			print[r] = System.nanoTime() - start;
+
+			log.printf("%s run %d: parse %.3f ms, compute %.3f ms, output %.3f ms%n", id, r + 1, parse[r] / 1e6,
+					solve[r] / 1e6, print[r] / 1e6);
+		}
+
+		if (repeat > 1) {
+			log.printf("%s best: parse %.3f ms, compute %.3f ms, output %.3f ms%n", id, min(parse) / 1e6,
+					min(solve) / 1e6, min(print) / 1e6);
+		}
+	}
+
+	private static String value(String[] args, int index, String option) {
+		if (index >= args.length) {
+			throw new IllegalArgumentException(option + " needs a value");
+		}
+		return args[index];
+	}
+
+	private static long min(long[] values) {
+		long min = Long.MAX_VALUE;
+		for (long value : values) {
+			min = Math.min(min, value);
+		}
+		return min;
+	}
+}
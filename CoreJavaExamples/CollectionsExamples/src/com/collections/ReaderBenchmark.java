@@ -0,0 +1,71 @@
+package com.collections;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.Scanner;
+
+/**
+ * Compares parse throughput of {@link Scanner} and {@link FastReader} on the
+ * same in-memory input of random ints.
+ *
+ * Usage: java com.collections.ReaderBenchmark [count]
+ */
+public class ReaderBenchmark {
+
+	public static void main(String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+		byte[] input = generate(count, 42);
+		double megabytes = input.length / (1024.0 * 1024.0);
+		System.out.printf("Input: %d ints, %.1f MB%n", count, megabytes);
+
+		// warm up both readers before measuring
+		for (int round = 0; round < 3; round++) {
+			parseWithFastReader(input, count);
+			parseWithScanner(input, Math.min(count, 200_000));
+		}
+
+		long start = System.nanoTime();
+		long fastSum = parseWithFastReader(input, count);
+		long fastNanos = System.nanoTime() - start;
+
+		start = System.nanoTime();
+		long scannerSum = parseWithScanner(input, count);
+		long scannerNanos = System.nanoTime() - start;
+
+		if (fastSum != scannerSum) {
+			throw new IllegalStateException("Readers disagree: " + fastSum + " != " + scannerSum);
+		}
+
+		System.out.printf("Scanner    : %8.1f ms  %8.1f MB/s%n", scannerNanos / 1e6, megabytes / (scannerNanos / 1e9));
+		System.out.printf("FastReader : %8.1f ms  %8.1f MB/s%n", fastNanos / 1e6, megabytes / (fastNanos / 1e9));
+		System.out.printf("Speedup    : %8.1fx%n", (double) scannerNanos / fastNanos);
+	}
+
+	static byte[] generate(int count, long seed) {
+		Random random = new Random(seed);
+		StringBuilder sb = new StringBuilder(count * 11);
+		for (int i = 0; i < count; i++) {
+			sb.append(random.nextInt()).append(i % 16 == 15 ? '\n' : ' ');
+		}
+		return sb.toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private static long parseWithFastReader(byte[] input, int count) {
+		FastReader reader = new FastReader(new ByteArrayInputStream(input));
+		long sum = 0;
+		for (int i = 0; i < count; i++) {
+			sum += reader.nextInt();
+		}
+		return sum;
+	}
+
+	private static long parseWithScanner(byte[] input, int count) {
+		Scanner sc = new Scanner(new ByteArrayInputStream(input));
+		long sum = 0;
+		for (int i = 0; i < count; i++) {
+			sum += sc.nextInt();
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,104 @@
+package com.collections;
+
+import java.util.Arrays;
+
+/**
+ * Counts the requests seen in the last {@code window} time units, for
+ * LinkedList Problem 4.3: {@code ping(t)} records a request at time t and
+ * returns how many requests fall in [t - window, t].
+ *
+ * Timestamps must not decrease, so the live requests are always a suffix of
+ * the ones seen. They are kept in a growable ring of primitive longs: a ping
+ * appends at the tail and drops expired timestamps from the head. Each
+ * timestamp is added and dropped once, so ping is amortized O(1).
+ *
+ * Not thread-safe; see {@link ConcurrentRecentCounter} for many writers.
+ */
+public class RecentCounter {
+
+	public static final long DEFAULT_WINDOW = 3000;
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final long window;
+	private long[] times = new long[INITIAL_CAPACITY];
+	private int head;
+	private int size;
+	private long last = Long.MIN_VALUE;
+
+	public RecentCounter() {
+		this(DEFAULT_WINDOW);
+	}
+
+	public RecentCounter(long window) {
+		if (window < 0) {
+			throw new IllegalArgumentException("Window must not be negative: " + window);
+		}
+		this.window = window;
+	}
+
+	/**
+	 * Records a request at {@code time} and returns the number of requests in
+	 * [time - window, time], this one included.
+	 *
+	 * @throws IllegalArgumentException if {@code time} is before the previous ping
+	 */
+	public int ping(long time) {
+		if (time < last) {
+			throw new IllegalArgumentException("Timestamps must not decrease: " + time + " after " + last);
+		}
+		last = time;
+		if (size == times.length) {
+			grow();
+		}
+		int mask = times.length - 1;
+		times[(head + size) & mask] = time;
+		size++;
+		long oldest = time - window;
+		while (times[head] < oldest) {
+			head = (head + 1) & mask;
+			size--;
+		}
+		return size;
+	}
+
+	/**
+	 * Number of requests in the window ending at the last ping.
+	 */
+	public int count() {
+		return size;
+	}
+
+	public long window() {
+		return window;
+	}
+
+	public void clear() {
+		head = 0;
+		size = 0;
+		last = Long.MIN_VALUE;
+	}
+
+	/**
+	 * Doubles the ring, unrolling it so the head moves back to index 0.
+	 */
+	private void grow() {
+		if (times.length == 1 << 30) {
+			throw new IllegalStateException("Too many requests in one window");
+		}
+		long[] bigger = new long[times.length << 1];
+		int firstPart = Math.min(size, times.length - head);
+		System.arraycopy(times, head, bigger, 0, firstPart);
+		System.arraycopy(times, 0, bigger, firstPart, size - firstPart);
+		times = bigger;
+		head = 0;
+	}
+
+	@Override
+	public String toString() {
+		long[] live = new long[size];
+		for (int i = 0; i < size; i++) {
+			live[i] = times[(head + i) & (times.length - 1)];
+		}
+		return Arrays.toString(live);
+	}
+}
@@ -0,0 +1,109 @@
+package com.collections;
+
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Ping throughput of the request counters: {@link RecentCounter} on one
+ * thread, then {@link ConcurrentRecentCounter} against a synchronized
+ * RecentCounter with 1, 2, 4, ... up to {@code maxThreads} threads.
+ *
+ * The total number of pings is split evenly over the threads. Every thread
+ * pings at a simulated clock that advances one millisecond every
+ * {@code pingsPerMilli} pings, so the window keeps sliding. After each run the
+ * concurrent counter's window count is checked against the number of pings in
+ * the last window.
+ *
+ * Usage: java com.collections.RecentCounterBenchmark [pings] [maxThreads] [pingsPerMilli]
+ */
+public class RecentCounterBenchmark {
+
+	private static final int ROUNDS = 3;
+	private static long sink;
+
+	public static void main(String[] args) throws InterruptedException {
+		int pings = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+		int maxThreads = args.length > 1 ? Integer.parseInt(args[1])
+				: Runtime.getRuntime().availableProcessors();
+		int perMilli = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+
+		for (int round = 0; round < ROUNDS; round++) {
+			RecentCounter single = new RecentCounter();
+			long start = System.nanoTime();
+			for (int i = 0; i < pings; i++) {
+				sink += single.ping(i / perMilli);
+			}
+			long elapsed = System.nanoTime() - start;
+			if (round == ROUNDS - 1) {
+				System.out.printf(Locale.ROOT, "RecentCounter, 1 thread        %8.1f M pings/s%n",
+						pings * 1e3 / elapsed);
+			}
+		}
+
+		for (int threads = 1; threads <= maxThreads; threads <<= 1) {
+			int perThread = pings / threads;
+			long lastTime = (perThread - 1) / perMilli;
+			long firstCounted = Math.max(0, lastTime - RecentCounter.DEFAULT_WINDOW) * perMilli;
+			long expected = (long) threads * (perThread - firstCounted);
+			double concurrent = 0;
+			double locked = 0;
+			for (int round = 0; round < ROUNDS; round++) {
+				ConcurrentRecentCounter counter = new ConcurrentRecentCounter(RecentCounter.DEFAULT_WINDOW, threads);
+				concurrent = run(threads, perThread, perMilli, counter::ping);
+				if (counter.count(lastTime) != expected) {
+					throw new IllegalStateException("Count " + counter.count(lastTime) + ", expected " + expected);
+				}
+
+				RecentCounter shared = new RecentCounter();
+				long[] clock = new long[1];
+				locked = run(threads, perThread, perMilli, time -> {
+					synchronized (shared) {
+						// threads interleave, so only ever move the shared clock forward
+						clock[0] = Math.max(clock[0], time);
+						sink += shared.ping(clock[0]);
+					}
+				});
+			}
+			System.out.printf(Locale.ROOT, "%2d threads   concurrent %8.1f M pings/s   synchronized %8.1f M pings/s%n",
+					threads, concurrent, locked);
+		}
+		System.out.println("sink " + sink);
+	}
+
+	private interface Pinger {
+		void ping(long time);
+	}
+
+	/**
+	 * Starts {@code threads} threads that each ping {@code pings} times and
+	 * returns the combined throughput in millions of pings per second.
+	 */
+	private static double run(int threads, int pings, int perMilli, Pinger pinger) throws InterruptedException {
+		CountDownLatch ready = new CountDownLatch(threads);
+		CountDownLatch go = new CountDownLatch(1);
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			workers[t] = new Thread(() -> {
+				ready.countDown();
+				try {
+					go.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < pings; i++) {
+					pinger.ping(i / perMilli);
+				}
+			});
+			workers[t].start();
+		}
+		ready.await();
+		long start = System.nanoTime();
+		go.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		long elapsed = System.nanoTime() - start;
+		return (double) pings * threads * 1e3 / elapsed;
+	}
+}
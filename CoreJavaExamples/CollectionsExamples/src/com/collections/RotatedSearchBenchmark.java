@@ -0,0 +1,76 @@
+package com.collections;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares {@link RotatedSortedSearch} with a linear {@link IntArrayList#indexOf}
+ * on Problem 6.3 inputs: a sorted list rotated at a random pivot, queried with
+ * a mix of present and absent values.
+ *
+ * The linear scan only answers the first {@code linearQueries} queries, since
+ * at large sizes it costs milliseconds each; times are reported per query.
+ *
+ * Usage: java com.collections.RotatedSearchBenchmark [size] [queries] [linearQueries]
+ */
+public class RotatedSearchBenchmark {
+
+	private static final int ROUNDS = 5;
+	private static long sink;
+
+	public static void main(String[] args) {
+		int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		int queryCount = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+		int linearCount = Math.min(queryCount, args.length > 2 ? Integer.parseInt(args[2]) : 200);
+
+		Random random = new Random(42);
+		int[] sorted = new int[size];
+		for (int i = 0; i < size; i++) {
+			sorted[i] = random.nextInt(4 * size);
+		}
+		Arrays.sort(sorted);
+		int pivot = size == 0 ? 0 : random.nextInt(size);
+		IntArrayList nums = new IntArrayList(size);
+		nums.addAll(sorted, pivot, size);
+		nums.addAll(sorted, 0, pivot);
+
+		int[] queries = new int[queryCount];
+		for (int i = 0; i < queryCount; i++) {
+			queries[i] = random.nextInt(4 * size);
+		}
+
+		System.out.printf(Locale.ROOT, "%d elements rotated by %d, %d queries (%d linear)%n", size, size - pivot,
+				queryCount, linearCount);
+		for (int round = 0; round < ROUNDS; round++) {
+			long start = System.nanoTime();
+			RotatedSortedSearch engine = new RotatedSortedSearch(nums);
+			long build = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			int[] fast = engine.indexOfAll(queries);
+			long search = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			for (int i = 0; i < linearCount; i++) {
+				int expected = nums.indexOf(queries[i]);
+				if (expected != fast[i]) {
+					throw new IllegalStateException("Mismatch for " + queries[i] + ": " + expected + " vs " + fast[i]);
+				}
+				sink += expected;
+			}
+			long linear = System.nanoTime() - start;
+			sink += fast[fast.length - 1];
+
+			if (round == ROUNDS - 1) {
+				double linearPerQuery = linearCount == 0 ? 0 : (double) linear / linearCount;
+				double searchPerQuery = queryCount == 0 ? 0 : (double) search / queryCount;
+				System.out.printf(Locale.ROOT, "build (copy + pivot) %10.2f ms%n", build / 1e6);
+				System.out.printf(Locale.ROOT, "binary search        %10.1f ns/query%n", searchPerQuery);
+				System.out.printf(Locale.ROOT, "linear indexOf       %10.1f ns/query   %8.0fx%n", linearPerQuery,
+						linearPerQuery / searchPerQuery);
+			}
+		}
+		System.out.println("sink " + sink);
+	}
+}
@@ -0,0 +1,145 @@
+package com.collections;
+
+/**
+ * Search engine over a sorted array that was rotated at an unknown pivot, such
+ * as {@code [4, 5, 6, 7, 0, 1, 2]}, for Problem 6.3.
+ *
+ * The pivot (the index of the smallest element) is found once by binary
+ * search. After that the array is treated as a virtual sorted array whose
+ * k-th element lives at {@code (k + pivot) % n}, so each query is a plain
+ * O(log n) lower-bound search.
+ *
+ * Duplicates are allowed. When the middle and last elements compare equal the
+ * pivot search cannot tell which half holds the pivot and shrinks the range by
+ * one, so finding the pivot degrades towards O(n) on inputs like
+ * {@code [1, 1, 1, 0, 1]}. Queries stay O(log n) either way, and return the
+ * smallest index holding the value, the same answer as indexOf.
+ *
+ * The array is not validated; if it is not a rotated sorted array the results
+ * are undefined, as with {@link java.util.Arrays#binarySearch(int[], int)}. Use
+ * {@link #isRotatedSorted(int[])} to check untrusted input.
+ */
+public class RotatedSortedSearch {
+
+	private final int[] data;
+	private final int pivot;
+
+	/**
+	 * Searches {@code data} in place; the array must not change afterwards.
+	 */
+	public RotatedSortedSearch(int[] data) {
+		this.data = data;
+		this.pivot = findPivot(data);
+	}
+
+	/**
+	 * Searches a copy of the list's current contents.
+	 */
+	public RotatedSortedSearch(IntArrayList list) {
+		this(list.toArray());
+	}
+
+	/**
+	 * Index of the smallest element, the point where the sorted order wraps.
+	 */
+	static int findPivot(int[] a) {
+		int lo = 0;
+		int hi = a.length - 1;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (a[mid] > a[hi]) {
+				lo = mid + 1;
+			} else if (a[mid] < a[hi]) {
+				hi = mid;
+			} else {
+				// a[mid] == a[hi]: the pivot may be on either side. a[hi] can only
+				// be dropped if it is not itself the pivot.
+				if (a[hi - 1] > a[hi]) {
+					return hi;
+				}
+				hi--;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * True if {@code a} is a non-decreasing array rotated by some amount,
+	 * checked in O(n).
+	 */
+	public static boolean isRotatedSorted(int[] a) {
+		int descents = 0;
+		for (int i = 1; i < a.length; i++) {
+			if (a[i - 1] > a[i]) {
+				descents++;
+			}
+		}
+		return descents == 0 || descents == 1 && a[a.length - 1] <= a[0];
+	}
+
+	public int size() {
+		return data.length;
+	}
+
+	/**
+	 * Number of positions the sorted array was rotated by.
+	 */
+	public int pivot() {
+		return pivot;
+	}
+
+	/**
+	 * Smallest index holding {@code value}, or -1.
+	 */
+	public int indexOf(int value) {
+		int n = data.length;
+		int k = lowerBound(value);
+		if (k == n || at(k) != value) {
+			return -1;
+		}
+		int start = k + pivot;
+		if (start >= n) {
+			return start - n;
+		}
+		// the run of equal values wraps past the end only if it continues at 0
+		return pivot > 0 && data[0] == value ? 0 : start;
+	}
+
+	public boolean contains(int value) {
+		int k = lowerBound(value);
+		return k < data.length && at(k) == value;
+	}
+
+	/**
+	 * {@link #indexOf(int)} for every query.
+	 */
+	public int[] indexOfAll(int[] queries) {
+		int[] result = new int[queries.length];
+		for (int i = 0; i < queries.length; i++) {
+			result[i] = indexOf(queries[i]);
+		}
+		return result;
+	}
+
+	private int at(int k) {
+		int i = k + pivot;
+		return data[i >= data.length ? i - data.length : i];
+	}
+
+	/**
+	 * First virtual index whose value is {@code >= value}.
+	 */
+	private int lowerBound(int value) {
+		int lo = 0;
+		int hi = data.length;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (at(mid) < value) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+}
@@ -0,0 +1,202 @@
+package com.collections;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Maximum or minimum of every window of K consecutive values, in amortized
+ * O(1) per value, for ArrayList Problem B.3 and LinkedList Problem 4.2.
+ *
+ * Rescanning each window costs O(n * k). Instead a monotonic deque holds the
+ * values that can still become the extremum of some later window, in window
+ * order. A new value first evicts every value behind it that it beats, since
+ * those can never win again, and the front is dropped once it leaves the
+ * window. The front is then the extremum of the current window. Each value is
+ * added and removed at most once.
+ *
+ * The deque never holds more than K entries, so it lives in a primitive ring
+ * sized to the next power of two above K, whatever the input length.
+ *
+ * Two APIs: {@link #windowMax(int[], int)} and {@link #windowMin(int[], int)}
+ * over a whole array, and a streaming operator created by
+ * {@link #streamingMax(int, IntConsumer)} or
+ * {@link #streamingMin(int, IntConsumer)} that accepts values one at a time
+ * from an unbounded feed and pushes each complete window's extremum
+ * downstream.
+ */
+public class SlidingWindowExtremum implements IntConsumer {
+
+	private final int window;
+	private final boolean max;
+	private final IntConsumer downstream;
+	private final int[] values;
+	private final long[] sequences; // position in the feed of each deque entry
+	private final int mask;
+	private int head;
+	private int tail; // head == tail means empty; both wrap through mask
+	private long count;
+
+	private SlidingWindowExtremum(int window, boolean max, IntConsumer downstream) {
+		checkWindow(window);
+		this.window = window;
+		this.max = max;
+		this.downstream = downstream;
+		int capacity = ringCapacity(window);
+		this.values = new int[capacity];
+		this.sequences = new long[capacity];
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Streaming maximum over the last {@code window} values. {@code downstream},
+	 * if not null, receives the maximum of every complete window.
+	 */
+	public static SlidingWindowExtremum streamingMax(int window, IntConsumer downstream) {
+		return new SlidingWindowExtremum(window, true, downstream);
+	}
+
+	/**
+	 * Streaming minimum over the last {@code window} values. {@code downstream},
+	 * if not null, receives the minimum of every complete window.
+	 */
+	public static SlidingWindowExtremum streamingMin(int window, IntConsumer downstream) {
+		return new SlidingWindowExtremum(window, false, downstream);
+	}
+
+	private static void checkWindow(int window) {
+		if (window < 1) {
+			throw new IllegalArgumentException("Window size must be positive: " + window);
+		}
+	}
+
+	/**
+	 * Smallest power of two greater than {@code window}: the deque holds at most
+	 * {@code window} entries and the ring keeps one slot free to tell full from
+	 * empty.
+	 */
+	private static int ringCapacity(int window) {
+		if (window >= 1 << 30) {
+			throw new IllegalArgumentException("Window size too large: " + window);
+		}
+		return Integer.highestOneBit(window) << 1;
+	}
+
+	/**
+	 * Feeds the next value. Once at least {@code window} values have arrived,
+	 * the extremum of the latest window is passed downstream.
+	 */
+	@Override
+	public void accept(int value) {
+		long sequence = count++;
+		// drop the front once it is older than the window
+		if (head != tail && sequences[head] <= sequence - window) {
+			head = (head + 1) & mask;
+		}
+		// evict the values behind that the new one beats
+		while (head != tail) {
+			int last = (tail - 1) & mask;
+			if (max ? values[last] > value : values[last] < value) {
+				break;
+			}
+			tail = last;
+		}
+		values[tail] = value;
+		sequences[tail] = sequence;
+		tail = (tail + 1) & mask;
+
+		if (downstream != null && count >= window) {
+			downstream.accept(values[head]);
+		}
+	}
+
+	/**
+	 * Extremum of the last {@code window} values, or of all values so far if
+	 * fewer have arrived.
+	 *
+	 * @throws IllegalStateException if no value has been fed yet
+	 */
+	public int current() {
+		if (head == tail) {
+			throw new IllegalStateException("No values yet");
+		}
+		return values[head];
+	}
+
+	/**
+	 * True once at least {@code window} values have been fed.
+	 */
+	public boolean isFull() {
+		return count >= window;
+	}
+
+	/**
+	 * Number of values fed so far.
+	 */
+	public long count() {
+		return count;
+	}
+
+	public int window() {
+		return window;
+	}
+
+	/**
+	 * Forgets every value fed so far.
+	 */
+	public void reset() {
+		head = 0;
+		tail = 0;
+		count = 0;
+	}
+
+	/**
+	 * Maximum of each window of {@code window} values in {@code a}; the result
+	 * has {@code a.length - window + 1} entries, none if the array is shorter
+	 * than the window.
+	 */
+	public static int[] windowMax(int[] a, int window) {
+		return extremes(a, window, true);
+	}
+
+	/**
+	 * Minimum of each window of {@code window} values in {@code a}.
+	 */
+	public static int[] windowMin(int[] a, int window) {
+		return extremes(a, window, false);
+	}
+
+	/**
+	 * Batch form of {@link #accept(int)}: the deque holds indexes into
+	 * {@code a}, so no sequence numbers are needed.
+	 */
+	private static int[] extremes(int[] a, int window, boolean max) {
+		checkWindow(window);
+		int n = a.length;
+		if (n < window) {
+			return new int[0];
+		}
+		int[] result = new int[n - window + 1];
+		int[] deque = new int[ringCapacity(window)];
+		int mask = deque.length - 1;
+		int head = 0;
+		int tail = 0;
+		for (int i = 0; i < n; i++) {
+			if (head != tail && deque[head] <= i - window) {
+				head = (head + 1) & mask;
+			}
+			int value = a[i];
+			while (head != tail) {
+				int last = (tail - 1) & mask;
+				if (max ? a[deque[last]] > value : a[deque[last]] < value) {
+					break;
+				}
+				tail = last;
+			}
+			deque[tail] = i;
+			tail = (tail + 1) & mask;
+			if (i >= window - 1) {
+				result[i - window + 1] = a[deque[head]];
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,139 @@
+package com.collections;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares ways of walking a rows x cols matrix in spiral order:
+ * <ul>
+ * <li>nested: the usual four-bounds loop over an
+ * {@code ArrayList<ArrayList<Integer>>}, collecting into a
+ * {@code List<Integer>} (only up to 2^24 cells)</li>
+ * <li>cursor: {@link SpiralCursor#nextInt()} one cell at a time</li>
+ * <li>bulk: {@link SpiralCursor#next(int[], int, int)} into a reused 64K
+ * buffer</li>
+ * <li>writer: {@link SpiralCursor#writeTo(FastWriter)} into a discarding
+ * stream, which includes formatting every number</li>
+ * </ul>
+ *
+ * Usage: java com.collections.SpiralBenchmark [rows] [cols]
+ */
+public class SpiralBenchmark {
+
+	private static final int ROUNDS = 5;
+	private static final long NESTED_LIMIT = 1 << 24;
+	private static long sink;
+
+	public static void main(String[] args) {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 4096;
+		int cols = args.length > 1 ? Integer.parseInt(args[1]) : rows;
+		int[] flat = new int[Math.multiplyExact(rows, cols)];
+		for (int i = 0; i < flat.length; i++) {
+			flat[i] = i;
+		}
+		ArrayList<ArrayList<Integer>> nested = null;
+		if (flat.length <= NESTED_LIMIT) {
+			nested = new ArrayList<>(rows);
+			for (int i = 0; i < rows; i++) {
+				ArrayList<Integer> row = new ArrayList<>(cols);
+				for (int j = 0; j < cols; j++) {
+					row.add(flat[i * cols + j]);
+				}
+				nested.add(row);
+			}
+		}
+
+		System.out.printf(Locale.ROOT, "%d x %d matrix%n", rows, cols);
+		int[] buffer = new int[1 << 16];
+		for (int round = 0; round < ROUNDS; round++) {
+			long nestedNanos = nested == null ? -1 : timeNested(nested, rows, cols);
+			long cursorNanos = timeCursor(flat, rows, cols);
+			long bulkNanos = timeBulk(flat, rows, cols, buffer);
+			long writerNanos = timeWriter(flat, rows, cols);
+			if (round == ROUNDS - 1) {
+				if (nestedNanos >= 0) {
+					row("nested", nestedNanos, flat.length);
+				}
+				row("cursor", cursorNanos, flat.length);
+				row("bulk", bulkNanos, flat.length);
+				row("writer", writerNanos, flat.length);
+			}
+		}
+		System.out.println("sink " + sink);
+	}
+
+	private static void row(String name, long nanos, long cells) {
+		System.out.printf(Locale.ROOT, "%-7s %9.2f ms %7.2f ns/cell%n", name, nanos / 1e6, (double) nanos / cells);
+	}
+
+	private static long timeNested(ArrayList<ArrayList<Integer>> matrix, int rows, int cols) {
+		long start = System.nanoTime();
+		List<Integer> order = new ArrayList<>();
+		int top = 0;
+		int bottom = rows - 1;
+		int left = 0;
+		int right = cols - 1;
+		while (top <= bottom && left <= right) {
+			for (int j = left; j <= right; j++) {
+				order.add(matrix.get(top).get(j));
+			}
+			top++;
+			for (int i = top; i <= bottom; i++) {
+				order.add(matrix.get(i).get(right));
+			}
+			right--;
+			if (top <= bottom) {
+				for (int j = right; j >= left; j--) {
+					order.add(matrix.get(bottom).get(j));
+				}
+				bottom--;
+			}
+			if (left <= right) {
+				for (int i = bottom; i >= top; i--) {
+					order.add(matrix.get(i).get(left));
+				}
+				left++;
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += order.get(order.size() - 1);
+		return elapsed;
+	}
+
+	private static long timeCursor(int[] flat, int rows, int cols) {
+		long start = System.nanoTime();
+		SpiralCursor cursor = new SpiralCursor(flat, rows, cols);
+		long checksum = 0;
+		while (cursor.hasNext()) {
+			checksum += cursor.nextInt();
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += checksum;
+		return elapsed;
+	}
+
+	private static long timeBulk(int[] flat, int rows, int cols, int[] buffer) {
+		long start = System.nanoTime();
+		SpiralCursor cursor = new SpiralCursor(flat, rows, cols);
+		long checksum = 0;
+		int copied;
+		while ((copied = cursor.next(buffer, 0, buffer.length)) > 0) {
+			checksum += buffer[copied - 1];
+		}
+		long elapsed = System.nanoTime() - start;
+		sink += checksum;
+		return elapsed;
+	}
+
+	private static long timeWriter(int[] flat, int rows, int cols) {
+		FastWriter out = new FastWriter(OutputStream.nullOutputStream());
+		long start = System.nanoTime();
+		long written = new SpiralCursor(flat, rows, cols).writeTo(out);
+		out.flush();
+		long elapsed = System.nanoTime() - start;
+		sink += written;
+		return elapsed;
+	}
+}
@@ -0,0 +1,228 @@
+package com.collections;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Walks a row-major matrix in spiral order: along the top row, down the right
+ * column, back along the bottom row, up the left column, then the same on the
+ * ring inside, clockwise from the top left corner.
+ *
+ * The matrix can sit anywhere in a larger array: cell (i, j) is
+ * {@code data[offset + i * stride + j]}, so a submatrix is walked without
+ * copying it. Any rows x cols shape works, including single rows and columns.
+ *
+ * The spiral is a sequence of straight legs, each a fixed step through the
+ * array (+1, +stride, -1 or -stride), so the cursor only keeps the current
+ * leg and the bounds of the ring. Cells come out one at a time through
+ * {@link #nextInt()}, in bulk into an int[] with {@link #next(int[], int, int)},
+ * where the rightward legs are plain array copies, or straight into a
+ * {@link FastWriter} with {@link #writeTo(FastWriter)}. None of them allocates
+ * per cell. {@link #skip(long)} jumps ahead a leg at a time, to start the walk
+ * part way round.
+ */
+public class SpiralCursor implements PrimitiveIterator.OfInt {
+
+	private static final int RIGHT = 0;
+	private static final int DOWN = 1;
+	private static final int LEFT = 2;
+	private static final int UP = 3;
+
+	private final int[] data;
+	private final int offset;
+	private final int stride;
+
+	// bounds of the cells not yet reached by a leg
+	private int top;
+	private int bottom;
+	private int left;
+	private int right;
+	private int direction = RIGHT;
+
+	// the current leg
+	private int index;
+	private int step;
+	private int legLeft;
+
+	private long remaining;
+
+	/**
+	 * Cursor over a rows x cols matrix filling {@code data}.
+	 */
+	public SpiralCursor(int[] data, int rows, int cols) {
+		this(data, 0, rows, cols, cols);
+	}
+
+	/**
+	 * Cursor over the rows x cols matrix whose cell (i, j) is
+	 * {@code data[offset + i * stride + j]}.
+	 */
+	public SpiralCursor(int[] data, int offset, int rows, int cols, int stride) {
+		if (rows < 0 || cols < 0 || offset < 0 || stride < cols) {
+			throw new IllegalArgumentException(
+					"Invalid shape: offset " + offset + ", " + rows + " x " + cols + ", stride " + stride);
+		}
+		if (rows > 0 && cols > 0 && offset + (long) (rows - 1) * stride + cols > data.length) {
+			throw new IndexOutOfBoundsException("A " + rows + " x " + cols + " matrix at offset " + offset
+					+ " with stride " + stride + " does not fit in length " + data.length);
+		}
+		this.data = data;
+		this.offset = offset;
+		this.stride = stride;
+		this.bottom = rows - 1;
+		this.right = cols - 1;
+		this.remaining = (long) rows * cols;
+	}
+
+	/**
+	 * Sets up the next non-empty leg and narrows the bounds past it.
+	 */
+	private void startLeg() {
+		while (true) {
+			switch (direction) {
+			case RIGHT:
+				legLeft = right - left + 1;
+				index = offset + top * stride + left;
+				step = 1;
+				top++;
+				break;
+			case DOWN:
+				legLeft = bottom - top + 1;
+				index = offset + top * stride + right;
+				step = stride;
+				right--;
+				break;
+			case LEFT:
+				legLeft = right - left + 1;
+				index = offset + bottom * stride + right;
+				step = -1;
+				bottom--;
+				break;
+			default:
+				legLeft = bottom - top + 1;
+				index = offset + bottom * stride + left;
+				step = -stride;
+				left++;
+			}
+			direction = (direction + 1) & 3;
+			if (legLeft > 0) {
+				return;
+			}
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		return remaining > 0;
+	}
+
+	@Override
+	public int nextInt() {
+		if (remaining == 0) {
+			throw new NoSuchElementException();
+		}
+		if (legLeft == 0) {
+			startLeg();
+		}
+		int value = data[index];
+		index += step;
+		legLeft--;
+		remaining--;
+		return value;
+	}
+
+	/**
+	 * Number of cells not walked yet.
+	 */
+	public long remaining() {
+		return remaining;
+	}
+
+	/**
+	 * Moves past the next {@code n} cells, or all of them if fewer remain, in
+	 * time proportional to the number of legs crossed.
+	 *
+	 * @return the number of cells skipped
+	 */
+	public long skip(long n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("n must not be negative: " + n);
+		}
+		long skipped = Math.min(n, remaining);
+		long left = skipped;
+		while (left > 0) {
+			if (legLeft == 0) {
+				startLeg();
+			}
+			int take = (int) Math.min(legLeft, left);
+			index += step * take;
+			legLeft -= take;
+			left -= take;
+		}
+		remaining -= skipped;
+		return skipped;
+	}
+
+	/**
+	 * Copies up to {@code length} of the next cells into {@code dst} starting
+	 * at {@code from}.
+	 *
+	 * @return the number of cells copied, 0 once the walk is over
+	 */
+	public int next(int[] dst, int from, int length) {
+		if (from < 0 || length < 0 || from > dst.length - length) {
+			throw new IndexOutOfBoundsException(
+					"Range [" + from + ", " + from + " + " + length + ") out of bounds for length " + dst.length);
+		}
+		int copied = (int) Math.min(length, remaining);
+		int at = from;
+		int end = from + copied;
+		while (at < end) {
+			if (legLeft == 0) {
+				startLeg();
+			}
+			int take = Math.min(legLeft, end - at);
+			if (step == 1) {
+				System.arraycopy(data, index, dst, at, take);
+				index += take;
+				at += take;
+			} else {
+				for (int k = 0; k < take; k++) {
+					dst[at++] = data[index];
+					index += step;
+				}
+			}
+			legLeft -= take;
+		}
+		remaining -= copied;
+		return copied;
+	}
+
+	/**
+	 * Writes every remaining cell to {@code out}, separated by single spaces,
+	 * without a trailing newline.
+	 *
+	 * @return the number of cells written
+	 */
+	public long writeTo(FastWriter out) {
+		long written = remaining;
+		boolean first = true;
+		while (remaining > 0) {
+			if (legLeft == 0) {
+				startLeg();
+			}
+			int take = legLeft;
+			for (int k = 0; k < take; k++) {
+				if (!first) {
+					out.print(' ');
+				}
+				out.print(data[index]);
+				index += step;
+				first = false;
+			}
+			legLeft = 0;
+			remaining -= take;
+		}
+		return written;
+	}
+}
@@ -0,0 +1,69 @@
+package com.collections;
+
+/**
+ * A contiguous range [start, end) of an array together with its sum, as
+ * returned by the subarray engines.
+ */
+public final class Subarray {
+
+	private final int start;
+	private final int end;
+	private final long sum;
+
+	public Subarray(int start, int end, long sum) {
+		if (start < 0 || end < start) {
+			throw new IllegalArgumentException("Invalid range [" + start + ", " + end + ")");
+		}
+		this.start = start;
+		this.end = end;
+		this.sum = sum;
+	}
+
+	/**
+	 * Index of the first element.
+	 */
+	public int start() {
+		return start;
+	}
+
+	/**
+	 * Index one past the last element.
+	 */
+	public int end() {
+		return end;
+	}
+
+	public int length() {
+		return end - start;
+	}
+
+	public boolean isEmpty() {
+		return start == end;
+	}
+
+	public long sum() {
+		return sum;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof Subarray)) {
+			return false;
+		}
+		Subarray other = (Subarray) o;
+		return start == other.start && end == other.end && sum == other.sum;
+	}
+
+	@Override
+	public int hashCode() {
+		return (31 * start + end) * 31 + Long.hashCode(sum);
+	}
+
+	@Override
+	public String toString() {
+		return "Subarray [start=" + start + ", end=" + end + ", sum=" + sum + "]";
+	}
+}
@@ -0,0 +1,144 @@
+package com.collections;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Counts the subarrays whose elements sum to K, in O(n) for any signs.
+ *
+ * With prefix sums P(0) = 0 and P(j) = a[0] + ... + a[j - 1], the subarray
+ * a[i, j) sums to K exactly when P(i) = P(j) - K. So for each new element the
+ * subarrays ending there are counted by looking up how many earlier prefix
+ * sums equal P(j) - K, and P(j) is then recorded. The prefix sums are longs,
+ * so large inputs cannot overflow them, and they are counted in a primitive
+ * map, so nothing is boxed.
+ *
+ * {@link #count(int[], long)} runs over a whole array, where no prefix can
+ * recur more than Integer.MAX_VALUE times, so int counts in a
+ * {@link LongIntHashMap} suffice. One map holds at most 2^29 keys, so past
+ * that many elements the prefix sums are split by hash across several maps,
+ * as {@link LongestSubarraySum} does.
+ *
+ * An instance is the streaming form: feed it elements one at a time with
+ * {@link #add(int)} (or as an IntConsumer) and read the running total with
+ * {@link #count()}. A stream has no length limit, so it counts prefixes as
+ * longs in {@link LongLongHashMap}s; a stream of zeros with target 0 would
+ * overflow int counts after 2^31 elements. Not knowing the length up front,
+ * it starts with one map and, whenever a map reaches 2^28 prefix sums, splits
+ * every map in two by hash. No map then reaches its limit, and the number of
+ * distinct prefix sums is bounded only by memory, at 32 to 64 bytes each.
+ */
+public class SubarraySumCounter implements IntConsumer {
+
+	private final long target;
+	// prefix counts split over 2^bits maps by LongestSubarraySum.partition
+	private LongLongHashMap[] prefixCounts = { new LongLongHashMap() };
+	private int bits;
+	private long prefix;
+	private long count;
+	private long elements;
+
+	public SubarraySumCounter(long target) {
+		this.target = target;
+		prefixCounts[0].increment(0); // the empty prefix
+	}
+
+	/**
+	 * Number of subarrays of {@code a} that sum to {@code target}.
+	 */
+	public static long count(int[] a, long target) {
+		int bits = LongestSubarraySum.sizeBits(a.length);
+		if (bits > 0) {
+			return partitionedCount(a, target, bits);
+		}
+		LongIntHashMap prefixCounts = new LongIntHashMap(Math.min(a.length + 1, 1 << 16));
+		prefixCounts.increment(0);
+		long prefix = 0;
+		long count = 0;
+		for (int value : a) {
+			prefix += value;
+			count += prefixCounts.get(prefix - target);
+			prefixCounts.increment(prefix);
+		}
+		return count;
+	}
+
+	/**
+	 * The same count with the prefix sums spread over 2^bits maps by
+	 * {@link LongestSubarraySum#partition(long, int)}.
+	 */
+	private static long partitionedCount(int[] a, long target, int bits) {
+		LongIntHashMap[] prefixCounts = new LongIntHashMap[1 << bits];
+		for (int p = 0; p < prefixCounts.length; p++) {
+			prefixCounts[p] = new LongIntHashMap(1 << 16);
+		}
+		prefixCounts[LongestSubarraySum.partition(0, bits)].increment(0);
+		long prefix = 0;
+		long count = 0;
+		for (int value : a) {
+			prefix += value;
+			long wanted = prefix - target;
+			count += prefixCounts[LongestSubarraySum.partition(wanted, bits)].get(wanted);
+			prefixCounts[LongestSubarraySum.partition(prefix, bits)].increment(prefix);
+		}
+		return count;
+	}
+
+	/**
+	 * Appends {@code value} to the stream and returns the number of subarrays
+	 * ending at it that sum to the target.
+	 */
+	public long add(int value) {
+		prefix += value;
+		long wanted = prefix - target;
+		long ending = prefixCounts[LongestSubarraySum.partition(wanted, bits)].get(wanted);
+		LongLongHashMap counts = prefixCounts[LongestSubarraySum.partition(prefix, bits)];
+		counts.increment(prefix);
+		if (counts.size() >= LongestSubarraySum.PARTITION_KEYS) {
+			split();
+		}
+		count += ending;
+		elements++;
+		return ending;
+	}
+
+	/**
+	 * Doubles the number of maps. With one more partition bit, the keys of map
+	 * p go to maps 2p and 2p + 1; each old map is dropped once it is copied.
+	 */
+	private void split() {
+		int nextBits = bits + 1;
+		LongLongHashMap[] next = new LongLongHashMap[prefixCounts.length << 1];
+		for (int p = 0; p < prefixCounts.length; p++) {
+			LongLongHashMap counts = prefixCounts[p];
+			prefixCounts[p] = null;
+			next[2 * p] = new LongLongHashMap(counts.size() / 2);
+			next[2 * p + 1] = new LongLongHashMap(counts.size() / 2);
+			counts.forEach((key, value) -> next[LongestSubarraySum.partition(key, nextBits)].put(key, value));
+		}
+		prefixCounts = next;
+		bits = nextBits;
+	}
+
+	@Override
+	public void accept(int value) {
+		add(value);
+	}
+
+	/**
+	 * Subarrays summing to the target among all elements added so far.
+	 */
+	public long count() {
+		return count;
+	}
+
+	/**
+	 * Number of elements added so far.
+	 */
+	public long elements() {
+		return elements;
+	}
+
+	public long target() {
+		return target;
+	}
+}